@@ -0,0 +1,22 @@
+plugins {
+    java
+    id("io.micronaut.build.internal.guides-base")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(projects.guides)
+}
+
+jmh {
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+    jvmArgsAppend.add("-Dguides.benchmarks.examples=${rootProject.file("examples").absolutePath}")
+    if (project.hasProperty("jmhIncludes")) {
+        includes.add(project.property("jmhIncludes").toString())
+    }
+}
@@ -0,0 +1,72 @@
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.guides.core.Guide;
+import io.micronaut.guides.core.GuideParser;
+import io.micronaut.guides.core.GuidesOption;
+import io.micronaut.guides.core.MacroSubstitution;
+import io.micronaut.guides.core.asciidoc.AsciidocConverter;
+import io.micronaut.starter.api.TestFramework;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.Language;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link AsciidocConverter#convert(String, File, String, String)} with the asciidoc produced by the macro substitutions.
+ * Run it with several threads, e.g. {@code -t 4}, to measure the Asciidoctor pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AsciidocConverterBenchmark {
+
+    @Param({Corpus.EXAMPLES, Corpus.SYNTHETIC})
+    public String corpus;
+
+    private ApplicationContext applicationContext;
+    private AsciidocConverter asciidocConverter;
+    private String asciidoc;
+    private File baseDir;
+    private String sourceDir;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        asciidocConverter = applicationContext.getBean(AsciidocConverter.class);
+        Guide guide = applicationContext.getBean(GuideParser.class)
+                .parseGuidesMetadata(Corpus.examplesDirectory().resolve("guides").toFile())
+                .getFirst();
+        GuidesOption option = new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT);
+        String input = Corpus.SYNTHETIC.equals(corpus) ? Corpus.syntheticAsciidoc(Corpus.SYNTHETIC_SECTIONS) : Corpus.exampleAsciidoc();
+        asciidoc = applicationContext.getBean(MacroSubstitution.class).substitute(input, guide, option);
+        baseDir = Corpus.examplesDirectory().toFile();
+        sourceDir = Corpus.exampleGuideDirectory().toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public String convert() {
+        return asciidocConverter.convert(asciidoc, baseDir, sourceDir, sourceDir);
+    }
+}
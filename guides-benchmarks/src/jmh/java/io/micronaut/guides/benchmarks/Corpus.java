@@ -0,0 +1,132 @@
+package io.micronaut.guides.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Inputs of the benchmarks. The {@code examples} corpus is the examples directory of the repository. The {@code synthetic} corpus
+ * is generated in a temporary directory and is large enough to expose regressions which are not visible with a single guide.
+ */
+final class Corpus {
+    static final String EXAMPLES = "examples";
+    static final String SYNTHETIC = "synthetic";
+    static final String GUIDE_SLUG = "micronaut-hello-world";
+    static final int SYNTHETIC_GUIDES = 200;
+    static final int SYNTHETIC_SECTIONS = 300;
+    static final int SYNTHETIC_FILES = 500;
+
+    private static final String PROPERTY_EXAMPLES = "guides.benchmarks.examples";
+
+    private Corpus() {
+    }
+
+    static Path examplesDirectory() {
+        return Path.of(System.getProperty(PROPERTY_EXAMPLES, "../examples")).toAbsolutePath().normalize();
+    }
+
+    static Path exampleGuideDirectory() {
+        return examplesDirectory().resolve("guides").resolve(GUIDE_SLUG);
+    }
+
+    static String exampleAsciidoc() {
+        return read(exampleGuideDirectory().resolve(GUIDE_SLUG + ".adoc"));
+    }
+
+    /**
+     * Generates a guides directory whose guides are copies of the example guide metadata.
+     */
+    static Path syntheticGuidesDirectory(int guides) {
+        String metadata = read(exampleGuideDirectory().resolve("metadata.json"));
+        try {
+            Path guidesDirectory = Files.createTempDirectory("guides-benchmarks-guides");
+            for (int i = 0; i < guides; i++) {
+                Path guideDirectory = Files.createDirectories(guidesDirectory.resolve(GUIDE_SLUG + "-" + i));
+                Files.writeString(guideDirectory.resolve("metadata.json"), metadata.replace("Micronaut Hello World", "Micronaut Hello World " + i));
+            }
+            return guidesDirectory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generates a long guide which uses every kind of macro handled by the macro substitutions.
+     */
+    static String syntheticAsciidoc(int sections) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("common:example.adoc[]\n\n");
+        for (int i = 0; i < sections; i++) {
+            sb.append("== Section ").append(i).append(" for @guideTitle@ in @lang@\n\n");
+            sb.append("Read guideLink:micronaut-hello-world[the previous guide] and download link:@sourceDir@.zip[the source].\n\n");
+            sb.append(":exclude-for-build:maven\n\n");
+            sb.append("Run `./gradlew test` with @build@ and @testFramework@.\n\n");
+            sb.append(":exclude-for-build:\n\n");
+            sb.append(":exclude-for-languages:groovy,kotlin\n\n");
+            sb.append("source:HelloWorldController[tags=method]\n\n");
+            sb.append(":exclude-for-languages:\n\n");
+            sb.append("test:HelloWorldControllerTest[]\n\n");
+            sb.append("callout:example.adoc[").append(i % 3 + 1).append("]\n\n");
+            sb.append(":dependencies:\n");
+            sb.append(dependencyLines(2).get(0)).append('\n');
+            sb.append(dependencyLines(2).get(1)).append('\n');
+            sb.append(":dependencies:\n\n");
+        }
+        return sb.toString();
+    }
+
+    static List<String> dependencyLines(int count) {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i % 2 == 0) {
+                lines.add("dependency:micronaut-module-" + i + "[groupId=io.micronaut.module]");
+            } else {
+                lines.add("dependency:micronaut-module-processor-" + i + "[groupId=io.micronaut.module,scope=annotationProcessor,callout=" + i + "]");
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Generates a project directory with nested source files of a few kilobytes.
+     */
+    static Path syntheticProjectDirectory(int files) {
+        String source = read(exampleGuideDirectory().resolve("java/src/main/java/example/micronaut/HelloWorldController.java"));
+        try {
+            Path projectDirectory = Files.createTempDirectory("guides-benchmarks-project");
+            for (int i = 0; i < files; i++) {
+                Path packageDirectory = Files.createDirectories(projectDirectory.resolve("src/main/java/example/micronaut/package" + (i % 20)));
+                Files.writeString(packageDirectory.resolve("HelloWorldController" + i + ".java"), source.repeat(10));
+            }
+            return projectDirectory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void delete(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.guides.core.DependencyLines;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.Language;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DependencyLines#asciidoc(List, BuildTool, Language)} for a {@code :dependencies:} block.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependencyLinesBenchmark {
+
+    @Param({"2", "50"})
+    public int dependencies;
+
+    @Param({"GRADLE", "MAVEN"})
+    public BuildTool buildTool;
+
+    @Param({"JAVA", "KOTLIN"})
+    public Language language;
+
+    private List<String> lines;
+
+    @Setup
+    public void setup() {
+        lines = Corpus.dependencyLines(dependencies);
+    }
+
+    @Benchmark
+    public List<String> asciidoc() {
+        return DependencyLines.asciidoc(lines, buildTool, language);
+    }
+}
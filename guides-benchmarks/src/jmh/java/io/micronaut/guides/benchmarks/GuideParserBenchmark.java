@@ -0,0 +1,67 @@
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.guides.core.Guide;
+import io.micronaut.guides.core.GuideParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link GuideParser#parseGuidesMetadata(File)}, which reads, validates and merges the metadata of every guide.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GuideParserBenchmark {
+
+    @Param({Corpus.EXAMPLES, Corpus.SYNTHETIC})
+    public String corpus;
+
+    private ApplicationContext applicationContext;
+    private GuideParser guideParser;
+    private Path syntheticGuidesDirectory;
+    private File guidesDirectory;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        guideParser = applicationContext.getBean(GuideParser.class);
+        if (Corpus.SYNTHETIC.equals(corpus)) {
+            syntheticGuidesDirectory = Corpus.syntheticGuidesDirectory(Corpus.SYNTHETIC_GUIDES);
+            guidesDirectory = syntheticGuidesDirectory.toFile();
+        } else {
+            guidesDirectory = Corpus.examplesDirectory().resolve("guides").toFile();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+        if (syntheticGuidesDirectory != null) {
+            Corpus.delete(syntheticGuidesDirectory);
+        }
+    }
+
+    @Benchmark
+    public List<? extends Guide> parseGuidesMetadata() {
+        return guideParser.parseGuidesMetadata(guidesDirectory);
+    }
+}
@@ -0,0 +1,72 @@
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.guides.core.DefaultGuideProjectZipper;
+import io.micronaut.guides.core.GuideProjectZipper;
+import io.micronaut.guides.core.GuidesConfigurationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link GuideProjectZipper#zipDirectory(String, String)} with and without reproducible zips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GuideProjectZipperBenchmark {
+
+    @Param({Corpus.EXAMPLES, Corpus.SYNTHETIC})
+    public String corpus;
+
+    @Param({"false", "true"})
+    public boolean reproducibleZips;
+
+    private GuideProjectZipper guideProjectZipper;
+    private Path syntheticProjectDirectory;
+    private String sourceDir;
+    private Path outputFile;
+
+    @Setup
+    public void setup() throws IOException {
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setReproducibleZips(reproducibleZips);
+        guideProjectZipper = new DefaultGuideProjectZipper(guidesConfiguration);
+        if (Corpus.SYNTHETIC.equals(corpus)) {
+            syntheticProjectDirectory = Corpus.syntheticProjectDirectory(Corpus.SYNTHETIC_FILES);
+            sourceDir = syntheticProjectDirectory.toString();
+        } else {
+            sourceDir = Corpus.exampleGuideDirectory().toString();
+        }
+        outputFile = Files.createTempFile("guides-benchmarks", ".zip");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(outputFile);
+        if (syntheticProjectDirectory != null) {
+            Corpus.delete(syntheticProjectDirectory);
+        }
+    }
+
+    @Benchmark
+    public void zipDirectory() throws IOException {
+        guideProjectZipper.zipDirectory(sourceDir, outputFile.toString());
+    }
+}
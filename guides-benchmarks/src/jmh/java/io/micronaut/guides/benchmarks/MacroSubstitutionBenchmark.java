@@ -0,0 +1,66 @@
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.guides.core.Guide;
+import io.micronaut.guides.core.GuideParser;
+import io.micronaut.guides.core.GuidesOption;
+import io.micronaut.guides.core.MacroSubstitution;
+import io.micronaut.starter.api.TestFramework;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.Language;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link MacroSubstitution} bean, i.e. the composite of every macro substitution, for a guide option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MacroSubstitutionBenchmark {
+
+    @Param({Corpus.EXAMPLES, Corpus.SYNTHETIC})
+    public String corpus;
+
+    private ApplicationContext applicationContext;
+    private MacroSubstitution macroSubstitution;
+    private Guide guide;
+    private GuidesOption option;
+    private String asciidoc;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        macroSubstitution = applicationContext.getBean(MacroSubstitution.class);
+        guide = applicationContext.getBean(GuideParser.class)
+                .parseGuidesMetadata(Corpus.examplesDirectory().resolve("guides").toFile())
+                .getFirst();
+        option = new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT);
+        asciidoc = Corpus.SYNTHETIC.equals(corpus) ? Corpus.syntheticAsciidoc(Corpus.SYNTHETIC_SECTIONS) : Corpus.exampleAsciidoc();
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public String substitute() {
+        return macroSubstitution.substitute(asciidoc, guide, option);
+    }
+}
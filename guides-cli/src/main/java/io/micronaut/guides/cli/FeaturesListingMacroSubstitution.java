@@ -1,7 +1,7 @@
 package io.micronaut.guides.cli;
 
 import io.micronaut.guides.core.*;
-import io.micronaut.guides.core.asciidoc.AsciidocMacro;
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import io.micronaut.guides.core.asciidoc.SourceBlock;
 import io.micronaut.starter.application.Project;
 import io.micronaut.starter.application.generator.GeneratorContext;
@@ -13,9 +13,7 @@ import io.micronaut.starter.util.NameUtils;
 import jakarta.inject.Singleton;
 
 import java.util.Collections;
-import java.util.Optional;
 
-import static io.micronaut.guides.core.MacroUtils.findMacroLines;
 import static io.micronaut.starter.options.JdkVersion.JDK_8;
 
 @Singleton
@@ -34,14 +32,17 @@ public class FeaturesListingMacroSubstitution implements MacroSubstitution {
 
     @Override
     public String substitute(String str, Guide guide, GuidesOption option) {
+        AsciidocDocument document = AsciidocDocument.parse(str);
+        substitute(document, guide, option);
+        return document.toString();
+    }
+
+    @Override
+    public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
         JdkVersion javaVersion = GuideGenerationUtils.resolveJdkVersion(guidesConfiguration, guide);
         Project project = NameUtils.parse("com.example");
-        for (String line : findMacroLines(str, MACRO)) {
-            Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(MACRO, line);
-            if (asciidocMacroOptional.isEmpty()) {
-                continue;
-            }
-            String target = asciidocMacroOptional.get().target();
+        document.replaceMacros(MACRO, node -> node.getMacro().map(asciidocMacro -> {
+            String target = asciidocMacro.target();
             GdkApp app = (GdkApp) guide.getApps()
                     .stream()
                     .filter(a -> a.getName().equals(target))
@@ -60,13 +61,11 @@ public class FeaturesListingMacroSubstitution implements MacroSubstitution {
                     ConsoleOutput.NOOP
             );
 
-            String asciidoc = SourceBlock.builder()
+            return SourceBlock.builder()
                     .language(LANGUAGE_BASH)
                     .content("features: " + generatorContext.getFeatures().toString())
                     .build()
                     .toString();
-            str = str.replace(line, asciidoc);
-        }
-        return str;
+        }).orElse(null));
     }
 }
@@ -1,8 +1,10 @@
 package io.micronaut.guides.cli;
 
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.guides.core.App;
+import io.micronaut.guides.core.GuideMerger;
 import io.micronaut.jsonschema.JsonSchema;
 import io.micronaut.serde.annotation.Serdeable;
 
@@ -23,4 +25,12 @@ public class GdkApp extends App {
     public void setServices(@Nullable List<String> services) {
         this.services = services;
     }
+
+    @Override
+    protected void mergeBase(@NonNull App base) {
+        super.mergeBase(base);
+        if (base instanceof GdkApp gdkBase) {
+            services = GuideMerger.mergeWithBase(gdkBase.services, services);
+        }
+    }
 }
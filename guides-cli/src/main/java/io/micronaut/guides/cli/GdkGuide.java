@@ -40,6 +40,14 @@ public class GdkGuide extends Guide {
         this.skipCodeSamples = skipCodeSamples;
     }
 
+    @Override
+    protected void mergeBase(@NonNull Guide base) {
+        super.mergeBase(base);
+        if (skipCodeSamples == null && base instanceof GdkGuide gdkBase) {
+            skipCodeSamples = gdkBase.skipCodeSamples;
+        }
+    }
+
     @Override
     public @NonNull List<GdkApp> getApps() {
         return apps;
@@ -5,6 +5,7 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.guides.core.Guide;
 import io.micronaut.guides.core.GuideMerger;
 import io.micronaut.guides.core.GuideParser;
+import io.micronaut.guides.core.GuidesConfiguration;
 import io.micronaut.json.JsonMapper;
 import jakarta.inject.Singleton;
 import jakarta.validation.constraints.NotNull;
@@ -16,8 +17,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Singleton
 @Replaces(GuideParser.class)
@@ -26,29 +29,32 @@ public class GuideParserReplacement implements GuideParser {
 
     private final JsonMapper jsonMapper;
     private final GuideMerger guideMerger;
+    private final GuidesConfiguration guidesConfiguration;
 
     /**
      * Constructs a new DefaultGuideParser.
      *
      * @param jsonMapper the JSON mapper
      */
-    public GuideParserReplacement(JsonMapper jsonMapper, GuideMerger guideMerger) {
+    public GuideParserReplacement(JsonMapper jsonMapper, GuideMerger guideMerger, GuidesConfiguration guidesConfiguration) {
         this.jsonMapper = jsonMapper;
         this.guideMerger = guideMerger;
+        this.guidesConfiguration = guidesConfiguration;
     }
 
     @Override
     @NonNull
     public List<? extends Guide> parseGuidesMetadata(@NonNull @NotNull File guidesDir, @NonNull @NotNull String metadataConfigName) {
-        List<GdkGuide> metadatas = new ArrayList<>();
-
         File[] dirs = guidesDir.listFiles(File::isDirectory);
         if (dirs == null) {
-            return metadatas;
-        }
-        for (File dir : dirs) {
-            parseGuideMetadata(dir, metadataConfigName).ifPresent(guide -> metadatas.add((GdkGuide) guide));
+            return new ArrayList<>();
         }
+        Stream<File> stream = guidesConfiguration.isParallel() ? Arrays.stream(dirs).parallel() : Arrays.stream(dirs);
+        List<GdkGuide> metadatas = new ArrayList<>(stream
+                .map(dir -> parseGuideMetadata(dir, metadataConfigName))
+                .flatMap(Optional::stream)
+                .map(GdkGuide.class::cast)
+                .toList());
 
         guideMerger.mergeGuides(metadatas);
 
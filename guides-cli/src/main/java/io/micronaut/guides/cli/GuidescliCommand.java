@@ -1,15 +1,20 @@
 package io.micronaut.guides.cli;
 
 import io.micronaut.configuration.picocli.PicocliRunner;
+import io.micronaut.guides.core.MacroSubstitutionProfiler;
 import io.micronaut.guides.core.WebsiteGenerator;
+import io.micronaut.guides.core.WebsiteWatcher;
 import jakarta.inject.Inject;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
 import java.io.File;
 import java.io.IOException;
+import java.text.ParseException;
 
-@Command(name = "guidescli", description = "...", mixinStandardHelpOptions = true)
+@Command(name = "guidescli", description = "...", mixinStandardHelpOptions = true, subcommands = ServeCommand.class)
 public class GuidescliCommand implements Runnable {
 
     @Option(names = {"-v", "--verbose"}, description = "...")
@@ -21,18 +26,60 @@ public class GuidescliCommand implements Runnable {
     @Option(names = {"-o", "--output"}, description = "folder where the website should be generated into")
     File output;
 
+    @Option(names = {"-w", "--watch"}, description = "keep running and regenerate the guides affected by changes in the input folder")
+    boolean watch;
+
+    @Option(names = {"--jfr"}, description = "record the build with Java Flight Recorder into the given file")
+    File jfr;
+
     @Inject
     WebsiteGenerator websiteGenerator;
 
+    @Inject
+    WebsiteWatcher websiteWatcher;
+
+    @Inject
+    MacroSubstitutionProfiler macroSubstitutionProfiler;
+
     public static void main(String[] args) throws Exception {
         PicocliRunner.run(GuidescliCommand.class, args);
     }
 
     public void run() {
         try {
-            websiteGenerator.generate(input, output);
-        } catch (IOException e) {
+            if (jfr == null) {
+                generate();
+                return;
+            }
+            try (Recording recording = new Recording(Configuration.getConfiguration("profile"))) {
+                recording.setName("guidescli");
+                recording.setToDisk(true);
+                recording.setDestination(jfr.toPath());
+                recording.start();
+                try {
+                    generate();
+                } finally {
+                    recording.stop();
+                }
+            }
+        } catch (IOException | ParseException e) {
             throw new RuntimeException(e);
         }
     }
+
+    private void generate() throws IOException {
+        if (watch) {
+            websiteWatcher.watch(input, output, this::printMacroSubstitutionProfile);
+        } else {
+            websiteGenerator.generate(input, output);
+            printMacroSubstitutionProfile();
+        }
+    }
+
+    private void printMacroSubstitutionProfile() {
+        if (macroSubstitutionProfiler.isEnabled()) {
+            System.out.print(macroSubstitutionProfiler.report());
+            macroSubstitutionProfiler.reset();
+        }
+    }
 }
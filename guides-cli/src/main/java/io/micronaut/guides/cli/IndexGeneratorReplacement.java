@@ -6,19 +6,25 @@ import io.micronaut.core.io.ResourceLoader;
 import io.micronaut.guides.core.Guide;
 import io.micronaut.guides.core.GuidesTemplatesConfiguration;
 import io.micronaut.guides.core.html.DefaultIndexGenerator;
+import io.micronaut.guides.core.html.HtmlTemplate;
 import io.micronaut.guides.core.html.IndexGenerator;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.Language;
 import jakarta.inject.Singleton;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Singleton
 @Replaces(IndexGenerator.class)
 public class IndexGeneratorReplacement extends DefaultIndexGenerator {
-    private final String indexItem;
+    private final HtmlTemplate indexItem;
 
     public IndexGeneratorReplacement(ResourceLoader resourceLoader, GuidesTemplatesConfiguration guidesTemplatesConfiguration) {
         super(resourceLoader, guidesTemplatesConfiguration);
@@ -29,22 +35,31 @@ public class IndexGeneratorReplacement extends DefaultIndexGenerator {
             throw new ConfigurationException(path);
         }
         try (InputStream inputStream = inputStreamOptional.get()) {
-            this.indexItem = readInputStream(inputStream);
+            this.indexItem = HtmlTemplate.compile(readInputStream(inputStream));
         } catch (Exception e) {
             throw new ConfigurationException("Error loading resource: " + path, e);
         }
 
     }
 
+    /**
+     * Renders the guides in parallel and concatenates them in order into a builder sized to fit them.
+     */
     @Override
     protected String guidesContent(List<? extends Guide> guides) {
-        StringBuilder sb = new StringBuilder();
-        for (Guide guide : guides) {
-            sb.append(guideContent(guide));
+        List<String> items = guides.parallelStream()
+                .map(this::guideContent)
+                .toList();
+        StringBuilder sb = new StringBuilder(items.stream().mapToInt(String::length).sum());
+        for (String item : items) {
+            sb.append(item);
         }
         return sb.toString();
     }
 
+    /**
+     * Renders an index item per language and build tool of the guide into a single writer.
+     */
     @Override
     protected String guideContent(Guide guide) {
 
@@ -56,20 +71,26 @@ public class IndexGeneratorReplacement extends DefaultIndexGenerator {
             categoryTitle = category.toLowerCase();
         }
 
-        StringBuilder sb = new StringBuilder();
-        for (Language lang : guide.getLanguages()) {
-            for (BuildTool buildTool : guide.getBuildTools()) {
-                String build = buildTool.toString().toLowerCase();
-                String href = guide.getSlug() + "-" + build + "-" + lang + ".html";
-                sb.append(indexItem.replace("{cloud}", cloud)
-                        .replace("{categoryClass}", categoryClass)
-                        .replace("{categoryTitle}", categoryTitle)
-                        .replace("{build}", build)
-                        .replace("{title}", guide.getTitle())
-                        .replace("{intro}", guide.getIntro())
-                        .replace("{href}", href));
+        Map<String, HtmlTemplate.Slot> slots = new HashMap<>();
+        slots.put("cloud", HtmlTemplate.Slot.of(cloud));
+        slots.put("categoryClass", HtmlTemplate.Slot.of(categoryClass));
+        slots.put("categoryTitle", HtmlTemplate.Slot.of(categoryTitle));
+        slots.put("title", HtmlTemplate.Slot.of(guide.getTitle()));
+        slots.put("intro", HtmlTemplate.Slot.of(guide.getIntro()));
+        int items = guide.getLanguages().size() * guide.getBuildTools().size();
+        StringWriter writer = new StringWriter(items * (indexItem.length() + guide.getTitle().length() + guide.getIntro().length()));
+        try {
+            for (Language lang : guide.getLanguages()) {
+                for (BuildTool buildTool : guide.getBuildTools()) {
+                    String build = buildTool.toString().toLowerCase();
+                    slots.put("build", HtmlTemplate.Slot.of(build));
+                    slots.put("href", HtmlTemplate.Slot.of(guide.getSlug() + "-" + build + "-" + lang + ".html"));
+                    indexItem.render(writer, slots);
+                }
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return sb.toString();
+        return writer.toString();
     }
 }
@@ -0,0 +1,275 @@
+package io.micronaut.guides.cli;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.guides.core.FilesTransferUtility;
+import io.micronaut.guides.core.Guide;
+import io.micronaut.guides.core.GuideGenerationUtils;
+import io.micronaut.guides.core.GuideOptionRenderer;
+import io.micronaut.guides.core.GuideParser;
+import io.micronaut.guides.core.GuideProjectGenerator;
+import io.micronaut.guides.core.GuideProjectZipper;
+import io.micronaut.guides.core.GuidesConfiguration;
+import io.micronaut.guides.core.GuidesOption;
+import io.micronaut.guides.core.MacroUtils;
+import io.micronaut.guides.core.WebsiteWatcher;
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
+import io.micronaut.guides.core.html.GuideMatrixGenerator;
+import io.micronaut.guides.core.html.IndexGenerator;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serves a preview of the guides over HTTP. Pages are rendered on demand and kept in a LRU cache. The projects of a guide
+ * are only generated when one of its pages is requested. Changes in the input folder invalidate the affected pages.
+ */
+@Command(name = "serve", description = "serves a preview of the guides, rendering the pages on demand", mixinStandardHelpOptions = true)
+public class ServeCommand implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(ServeCommand.class);
+    private static final String INDEX_HTML = "index.html";
+    private static final String HTML_EXTENSION = ".html";
+    private static final String ZIP_EXTENSION = ".zip";
+
+    @Option(names = {"-i", "--input"}, description = "folder contain the tutorials", required = true)
+    File input;
+
+    @Option(names = {"-o", "--output"}, description = "folder where the guide projects are generated into, a temporary folder by default")
+    File output;
+
+    @Option(names = {"-p", "--port"}, description = "port of the preview server", defaultValue = "8080")
+    int port;
+
+    @Option(names = {"--cache-size"}, description = "maximum number of rendered pages kept in memory", defaultValue = "100")
+    int cacheSize;
+
+    @Inject
+    GuidesConfiguration guidesConfiguration;
+
+    @Inject
+    GuideParser guideParser;
+
+    @Inject
+    GuideProjectGenerator guideProjectGenerator;
+
+    @Inject
+    FilesTransferUtility filesTransferUtility;
+
+    @Inject
+    GuideProjectZipper guideProjectZipper;
+
+    @Inject
+    GuideOptionRenderer guideOptionRenderer;
+
+    @Inject
+    GuideMatrixGenerator guideMatrixGenerator;
+
+    @Inject
+    IndexGenerator indexGenerator;
+
+    @Inject
+    WebsiteWatcher websiteWatcher;
+
+    private final Map<String, Page> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Page> eldest) {
+            return size() > cacheSize;
+        }
+    };
+    private final Map<String, AsciidocDocument> documents = new HashMap<>();
+    private List<? extends Guide> guides;
+
+    @Override
+    public void run() {
+        try {
+            if (output == null) {
+                output = Files.createTempDirectory("guidescli-serve").toFile();
+            }
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            server.createContext("/", this::handle);
+            server.start();
+            LOG.info("Serving the guides preview at http://localhost:{}/", port);
+            try {
+                websiteWatcher.watch(input, output, this::invalidate);
+            } finally {
+                server.stop(0);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String name = exchange.getRequestURI().getPath().substring(1);
+            if (name.isEmpty()) {
+                name = INDEX_HTML;
+            }
+            if (name.endsWith(HTML_EXTENSION)) {
+                Page page = page(name);
+                if (page != null) {
+                    send(exchange, 200, "text/html; charset=utf-8", page.html());
+                    return;
+                }
+            } else if (name.endsWith(ZIP_EXTENSION)) {
+                File zip = zip(name);
+                if (zip != null) {
+                    send(exchange, 200, "application/zip", Files.readAllBytes(zip.toPath()));
+                    return;
+                }
+            }
+            send(exchange, 404, "text/plain; charset=utf-8", ("Not found: " + name).getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            LOG.error("Error rendering {}: {}", exchange.getRequestURI(), e.getMessage(), e);
+            send(exchange, 500, "text/plain; charset=utf-8", String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private synchronized Page page(String name) throws IOException {
+        Page page = pages.get(name);
+        if (page == null) {
+            page = render(name);
+            if (page != null) {
+                pages.put(name, page);
+            }
+        }
+        return page;
+    }
+
+    private Page render(String name) throws IOException {
+        if (name.equals(INDEX_HTML)) {
+            return new Page(null, indexGenerator.renderIndex(guides()));
+        }
+        for (Guide guide : guides()) {
+            if (name.equals(guide.getSlug() + HTML_EXTENSION)) {
+                return new Page(guide.getSlug(), guideMatrixGenerator.renderIndex(guide));
+            }
+            for (GuidesOption guidesOption : GuideGenerationUtils.guidesOptions(guide, LOG)) {
+                if (name.equals(MacroUtils.getSourceDir(guide.getSlug(), guidesOption) + HTML_EXTENSION)) {
+                    AsciidocDocument document = prepare(guide);
+                    return new Page(guide.getSlug(), guideOptionRenderer.render(guide, guidesOption, document, input, output));
+                }
+            }
+        }
+        return null;
+    }
+
+    private synchronized File zip(String name) throws IOException {
+        for (Guide guide : guides()) {
+            for (GuidesOption guidesOption : GuideGenerationUtils.guidesOptions(guide, LOG)) {
+                String sourceDir = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
+                if (name.equals(sourceDir + ZIP_EXTENSION)) {
+                    prepare(guide);
+                    File zipFile = new File(output, name);
+                    File folderFile = new File(new File(output, guide.getSlug()), sourceDir);
+                    guideProjectZipper.zipDirectory(folderFile.getAbsolutePath(), zipFile.getAbsolutePath());
+                    return zipFile;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Generates the projects of the guide, once, and returns the lexed guide asciidoc.
+     */
+    private AsciidocDocument prepare(Guide guide) throws IOException {
+        AsciidocDocument document = documents.get(guide.getSlug());
+        if (document != null) {
+            return document;
+        }
+        File guideOutput = new File(output, guide.getSlug());
+        guideOutput.mkdirs();
+        try {
+            guideProjectGenerator.generate(guideOutput, guide);
+        } finally {
+            guideProjectGenerator.clearCache();
+        }
+        File guideInputDirectory = new File(guidesInputDirectory(), guide.getSlug());
+        filesTransferUtility.transferFiles(guideInputDirectory, guideOutput, guide);
+        File asciidocFile = new File(guideInputDirectory, guide.getSlug() + ".adoc");
+        if (!asciidocFile.exists()) {
+            throw new ConfigurationException("asciidoc file not found for " + guide.getSlug());
+        }
+        document = AsciidocDocument.parse(Files.readString(asciidocFile.toPath()));
+        documents.put(guide.getSlug(), document);
+        return document;
+    }
+
+    private List<? extends Guide> guides() {
+        if (guides == null) {
+            guides = guideParser.parseGuidesMetadata(guidesInputDirectory());
+        }
+        return guides;
+    }
+
+    private File guidesInputDirectory() {
+        return new File(input, guidesConfiguration.getGuidesDir());
+    }
+
+    /**
+     * Evicts the pages of the guides whose directory, or base guide directory, changed. Any other change evicts every page.
+     * The guides metadata and the index are always reloaded.
+     */
+    private synchronized void invalidate(Set<Path> changes) {
+        Path guidesDirectory = guidesInputDirectory().toPath().toAbsolutePath().normalize();
+        Set<String> slugs = new HashSet<>();
+        for (Path path : changes) {
+            if (!path.startsWith(guidesDirectory) || path.equals(guidesDirectory)) {
+                slugs = null;
+                break;
+            }
+            slugs.add(guidesDirectory.relativize(path).getName(0).toString());
+        }
+        if (slugs == null) {
+            pages.clear();
+            documents.clear();
+        } else {
+            if (guides != null) {
+                for (Guide guide : guides) {
+                    if (guide.getBase() != null && slugs.contains(guide.getBase())) {
+                        slugs.add(guide.getSlug());
+                    }
+                }
+            }
+            Set<String> invalidated = slugs;
+            documents.keySet().removeAll(invalidated);
+            pages.values().removeIf(page -> page.slug() == null || invalidated.contains(page.slug()));
+        }
+        guides = null;
+    }
+
+    private record Page(String slug, byte[] html) {
+        Page(String slug, String html) {
+            this(slug, html.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static io.micronaut.guides.core.GuideMerger.mergeLists;
+import static io.micronaut.guides.core.GuideMerger.mergeWithBase;
 import static io.micronaut.guides.core.GuideUtils.addAllSafe;
 
 /**
@@ -323,6 +324,30 @@ public class App {
         this.validateLicense = validateLicense;
     }
 
+    /**
+     * Merges the metadata of the app with the same name in the base guide into this app. Lists are
+     * merged with the base lists and properties not set in this app are inherited from the base app.
+     * Subclasses declaring additional properties should override this method and call
+     * {@code super.mergeBase(base)}.
+     *
+     * @param base The app of the base guide.
+     */
+    protected void mergeBase(@NonNull App base) {
+        name = name != null ? name : base.name;
+        packageName = packageName != null ? packageName : base.packageName;
+        applicationType = applicationType != null ? applicationType : base.applicationType;
+        framework = framework != null ? framework : base.framework;
+        features = mergeWithBase(base.features, features);
+        invisibleFeatures = mergeWithBase(base.invisibleFeatures, invisibleFeatures);
+        kotlinFeatures = mergeWithBase(base.kotlinFeatures, kotlinFeatures);
+        javaFeatures = mergeWithBase(base.javaFeatures, javaFeatures);
+        groovyFeatures = mergeWithBase(base.groovyFeatures, groovyFeatures);
+        testFramework = testFramework != null ? testFramework : base.testFramework;
+        excludeTest = mergeWithBase(base.excludeTest, excludeTest);
+        excludeSource = mergeWithBase(base.excludeSource, excludeSource);
+        validateLicense = validateLicense != null ? validateLicense : base.validateLicense;
+    }
+
     /**
      * Checks if the Spotless feature is present in the given feature lists.
      *
@@ -15,6 +15,7 @@
  */
 package io.micronaut.guides.core;
 
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import io.micronaut.guides.core.asciidoc.AsciidocMacro;
 import io.micronaut.guides.core.asciidoc.Attribute;
 import io.micronaut.http.uri.UriBuilder;
@@ -23,11 +24,8 @@ import jakarta.inject.Singleton;
 
 import java.net.URI;
 import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
 
-import static io.micronaut.guides.core.MacroUtils.findMacroLines;
-
 /**
  * BuildDiffLinkSubstitution is a singleton class that implements the MacroSubstitution interface.
  * It provides methods to substitute macros in Asciidoc files with appropriate values.
@@ -91,16 +89,23 @@ public class BuildDiffLinkSubstitution implements MacroSubstitution {
      */
     @Override
     public String substitute(String str, Guide guide, GuidesOption option) {
-        for (String line : findMacroLines(str, MACRO_DIFF_LINK)) {
-            Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(MACRO_DIFF_LINK, line);
-            if (asciidocMacroOptional.isEmpty()) {
-                continue;
-            }
-            AsciidocMacro asciidocMacro = asciidocMacroOptional.get();
-            String res = buildDiffLink(asciidocMacro, guide, option).toString() + "[Diff]";
-            str = str.replace(line, res);
-        }
-        return str;
+        AsciidocDocument document = AsciidocDocument.parse(str);
+        substitute(document, guide, option);
+        return document.toString();
+    }
+
+    /**
+     * Substitutes the diff link macros of the given document with links to the project generator diff.
+     *
+     * @param document the document containing macros
+     * @param guide    the guide object
+     * @param option   the guides option
+     */
+    @Override
+    public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
+        document.replaceMacros(MACRO_DIFF_LINK, node -> node.getMacro()
+                .map(asciidocMacro -> buildDiffLink(asciidocMacro, guide, option).toString() + "[Diff]")
+                .orElse(null));
     }
 
     /**
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Build manifest written into the output directory. It records, for every guide, the hash of its inputs,
+ * so that the next build can skip the guides whose inputs are unchanged. The manifest is deleted when it is loaded, so that the outputs
+ * of a build which does not complete are never trusted.
+ */
+@Internal
+final class BuildManifest {
+    static final String FILENAME = "build-manifest.json";
+    private static final Logger LOG = LoggerFactory.getLogger(BuildManifest.class);
+    private static final Argument<Map<String, String>> MANIFEST_TYPE = Argument.mapOf(String.class, String.class);
+
+    private final File file;
+    private final Map<String, String> previousHashes;
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+
+    private BuildManifest(File file, Map<String, String> previousHashes) {
+        this.file = file;
+        this.previousHashes = previousHashes;
+    }
+
+    /**
+     * Loads the manifest of the previous build from the output directory and deletes it.
+     *
+     * @param jsonMapper      the JSON mapper
+     * @param outputDirectory the output directory
+     * @return the build manifest, empty if no previous build manifest exists or it cannot be read
+     * @throws IOException if the previous build manifest cannot be deleted
+     */
+    @NonNull
+    static BuildManifest load(@NonNull JsonMapper jsonMapper, @NonNull File outputDirectory) throws IOException {
+        File file = new File(outputDirectory, FILENAME);
+        if (!file.exists()) {
+            return new BuildManifest(file, Collections.emptyMap());
+        }
+        Map<String, String> previousHashes;
+        try {
+            previousHashes = jsonMapper.readValue(Files.readAllBytes(file.toPath()), MANIFEST_TYPE);
+        } catch (IOException e) {
+            LOG.warn("Could not read build manifest {}. Generating every guide.", file, e);
+            previousHashes = Collections.emptyMap();
+        }
+        Files.delete(file.toPath());
+        return new BuildManifest(file, previousHashes);
+    }
+
+    /**
+     * Checks whether the inputs hash of a guide matches the one recorded by the previous build.
+     *
+     * @param slug the guide slug
+     * @param hash the hash of the guide inputs
+     * @return true if the guide inputs are unchanged since the previous build
+     */
+    boolean isUpToDate(@NonNull String slug, @NonNull String hash) {
+        return hash.equals(previousHashes.get(slug));
+    }
+
+    /**
+     * Returns the inputs hash of a guide recorded by the previous build.
+     *
+     * @param slug the guide slug
+     * @return the hash of the guide inputs, or null if the previous build did not record the guide
+     */
+    @Nullable
+    String getPreviousHash(@NonNull String slug) {
+        return previousHashes.get(slug);
+    }
+
+    /**
+     * Records the inputs hash of a guide for the current build.
+     *
+     * @param slug the guide slug
+     * @param hash the hash of the guide inputs
+     */
+    void put(@NonNull String slug, @NonNull String hash) {
+        hashes.put(slug, hash);
+    }
+
+    /**
+     * Writes the manifest of the current build to the output directory.
+     *
+     * @param jsonMapper the JSON mapper
+     * @throws IOException if an I/O error occurs while writing the manifest
+     */
+    void save(@NonNull JsonMapper jsonMapper) throws IOException {
+        Files.write(file.toPath(), jsonMapper.writeValueAsBytes(MANIFEST_TYPE, new TreeMap<>(hashes)));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Singleton;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Times the stages of a website build, per guide and guide option, and writes a build report listing the slowest stages,
+ * guides and guide options. Timings can be recorded concurrently.
+ */
+@Internal
+@Singleton
+final class BuildMetrics {
+    static final String FILENAME_JSON = "build-report.json";
+    static final String FILENAME_HTML = "build-report.html";
+    private static final int SLOWEST_LIMIT = 20;
+
+    private final Map<Key, Timer> timers = new ConcurrentHashMap<>();
+    private volatile long buildStartNanos = System.nanoTime();
+
+    /**
+     * Discards the timings recorded so far and starts timing a new build.
+     */
+    void reset() {
+        timers.clear();
+        buildStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Records the duration of a stage.
+     *
+     * @param stage        the build stage
+     * @param guide        the guide, or null for a stage which does not belong to a guide
+     * @param guidesOption the guide option, or null for a stage which does not belong to a guide option
+     * @param startNanos   the value of {@link System#nanoTime()} when the stage started
+     */
+    void record(@NonNull BuildStage stage, @Nullable Guide guide, @Nullable GuidesOption guidesOption, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        String slug = guide != null ? guide.getSlug() : null;
+        String option = guidesOption != null ? guidesOption.getBuildTool() + "-" + guidesOption.getLanguage() : null;
+        Timer timer = timers.computeIfAbsent(new Key(stage, slug, option), key -> new Timer());
+        timer.count.increment();
+        timer.totalNanos.add(nanos);
+        timer.maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Builds the report of the timings recorded since the last {@link #reset()}.
+     *
+     * @return the report, as a tree of maps and lists
+     */
+    @NonNull
+    Map<String, Object> report() {
+        Map<BuildStage, Timer> stages = new EnumMap<>(BuildStage.class);
+        Map<String, Map<BuildStage, Long>> guides = new LinkedHashMap<>();
+        Map<Key, Long> options = new LinkedHashMap<>();
+        timers.forEach((key, timer) -> {
+            Timer stage = stages.computeIfAbsent(key.stage(), s -> new Timer());
+            stage.count.add(timer.count.sum());
+            stage.totalNanos.add(timer.totalNanos.sum());
+            stage.maxNanos.accumulate(timer.maxNanos.get());
+            if (key.guide() != null) {
+                guides.computeIfAbsent(key.guide(), slug -> new EnumMap<>(BuildStage.class))
+                        .merge(key.stage(), timer.totalNanos.sum(), Long::sum);
+                if (key.option() != null) {
+                    options.merge(new Key(null, key.guide(), key.option()), timer.totalNanos.sum(), Long::sum);
+                }
+            }
+        });
+
+        List<Map<String, Object>> stageRows = new ArrayList<>();
+        stages.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<BuildStage, Timer> entry) -> entry.getValue().totalNanos.sum()).reversed())
+                .forEach(entry -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("stage", entry.getKey().name());
+                    row.put("count", entry.getValue().count.sum());
+                    row.put("totalMillis", millis(entry.getValue().totalNanos.sum()));
+                    row.put("maxMillis", millis(entry.getValue().maxNanos.get()));
+                    stageRows.add(row);
+                });
+
+        List<Map<String, Object>> guideRows = new ArrayList<>();
+        guides.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Map<BuildStage, Long>> entry) -> total(entry.getValue())).reversed())
+                .limit(SLOWEST_LIMIT)
+                .forEach(entry -> {
+                    Map<String, Object> guideStages = new LinkedHashMap<>();
+                    entry.getValue().forEach((stage, nanos) -> guideStages.put(stage.name(), millis(nanos)));
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("guide", entry.getKey());
+                    row.put("totalMillis", millis(total(entry.getValue())));
+                    row.put("stages", guideStages);
+                    guideRows.add(row);
+                });
+
+        List<Map<String, Object>> optionRows = new ArrayList<>();
+        options.entrySet().stream()
+                .sorted(Map.Entry.<Key, Long>comparingByValue().reversed())
+                .limit(SLOWEST_LIMIT)
+                .forEach(entry -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("guide", entry.getKey().guide());
+                    row.put("option", entry.getKey().option());
+                    row.put("totalMillis", millis(entry.getValue()));
+                    optionRows.add(row);
+                });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationMillis", millis(System.nanoTime() - buildStartNanos));
+        report.put("stages", stageRows);
+        report.put("slowestGuides", guideRows);
+        report.put("slowestOptions", optionRows);
+        return report;
+    }
+
+    /**
+     * Writes the build report to the output directory, as JSON and as HTML.
+     *
+     * @param jsonMapper      the JSON mapper
+     * @param outputDirectory the output directory
+     * @throws IOException if an I/O error occurs while writing the report
+     */
+    void writeReport(@NonNull JsonMapper jsonMapper, @NonNull File outputDirectory) throws IOException {
+        Map<String, Object> report = report();
+        Files.write(new File(outputDirectory, FILENAME_JSON).toPath(), jsonMapper.writeValueAsBytes(report));
+        Files.writeString(new File(outputDirectory, FILENAME_HTML).toPath(), html(report), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String html(Map<String, Object> report) {
+        StringBuilder html = new StringBuilder("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n<title>Build report</title>\n</head>\n<body>\n");
+        html.append("<h1>Build report</h1>\n<p>Build duration: ").append(report.get("durationMillis")).append(" ms</p>\n");
+        table(html, "Stages", List.of("stage", "count", "totalMillis", "maxMillis"), (List<Map<String, Object>>) report.get("stages"));
+        table(html, "Slowest guides", List.of("guide", "totalMillis", "stages"), (List<Map<String, Object>>) report.get("slowestGuides"));
+        table(html, "Slowest guide options", List.of("guide", "option", "totalMillis"), (List<Map<String, Object>>) report.get("slowestOptions"));
+        return html.append("</body>\n</html>\n").toString();
+    }
+
+    private static void table(StringBuilder html, String title, List<String> columns, List<Map<String, Object>> rows) {
+        html.append("<h2>").append(title).append("</h2>\n<table>\n<tr>");
+        for (String column : columns) {
+            html.append("<th>").append(column).append("</th>");
+        }
+        html.append("</tr>\n");
+        for (Map<String, Object> row : rows) {
+            html.append("<tr>");
+            for (String column : columns) {
+                html.append("<td>").append(escape(String.valueOf(row.get(column)))).append("</td>");
+            }
+            html.append("</tr>\n");
+        }
+        html.append("</table>\n");
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static long total(Map<BuildStage, Long> stages) {
+        return stages.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private record Key(@Nullable BuildStage stage, @Nullable String guide, @Nullable String option) {
+    }
+
+    private static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+    }
+}
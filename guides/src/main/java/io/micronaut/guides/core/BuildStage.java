@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+/**
+ * The stages of a website build, timed by {@link BuildMetrics}.
+ */
+public enum BuildStage {
+    /**
+     * Parsing of the guides metadata and lexing of the guides asciidoc.
+     */
+    PARSE,
+    /**
+     * Generation of the guide projects with Micronaut Starter.
+     */
+    PROJECT_GENERATION,
+    /**
+     * Transfer of the guide sources into the guide projects, and writing of the projects to disk.
+     */
+    FILE_TRANSFER,
+    /**
+     * Generation of the test scripts of a guide.
+     */
+    TEST_SCRIPTS,
+    /**
+     * Creation of the zip of a guide option.
+     */
+    ZIP,
+    /**
+     * Substitution of the macros of a guide option asciidoc.
+     */
+    MACRO_SUBSTITUTION,
+    /**
+     * Conversion of a guide option asciidoc to HTML with Asciidoctor.
+     */
+    ASCIIDOCTOR,
+    /**
+     * Rendering of the guide option pages, the guide matrix pages and the index.
+     */
+    PAGE_RENDER,
+    /**
+     * Generation of the RSS and JSON feeds.
+     */
+    FEEDS
+}
@@ -18,27 +18,35 @@ package io.micronaut.guides.core;
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import jakarta.inject.Singleton;
 
+import java.lang.management.ManagementFactory;
 import java.util.List;
 
 /**
  * A composite implementation of the {@link MacroSubstitution} interface that applies a list of
- * {@link MacroSubstitution} instances in sequence.
+ * {@link MacroSubstitution} instances in sequence. When the {@link MacroSubstitutionProfiler} is enabled, every substitution applied to a
+ * document is timed, and the macros it matched and the bytes it allocated are recorded.
  */
 @Singleton
 @Primary
 @Internal
 class CompositeMacroSubstitution implements MacroSubstitution {
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
     private final List<MacroSubstitution> substitutions;
+    private final MacroSubstitutionProfiler profiler;
 
     /**
      * Constructs a new {@code CompositeMacroSubstitution} with the given list of substitutions.
      *
      * @param substitutions the list of {@link MacroSubstitution} instances to apply
+     * @param profiler      the profiler of the substitutions
      */
-    CompositeMacroSubstitution(List<MacroSubstitution> substitutions) {
+    CompositeMacroSubstitution(List<MacroSubstitution> substitutions, MacroSubstitutionProfiler profiler) {
         this.substitutions = substitutions;
+        this.profiler = profiler;
     }
 
     /**
@@ -52,10 +60,57 @@ class CompositeMacroSubstitution implements MacroSubstitution {
     @Override
     @NonNull
     public String substitute(@NonNull String str, @NonNull Guide guide, @NonNull GuidesOption option) {
-        String result = str;
+        AsciidocDocument document = AsciidocDocument.parse(str);
+        substitute(document, guide, option);
+        return document.toString();
+    }
+
+    /**
+     * Applies the list of {@link MacroSubstitution} instances to the given document in sequence.
+     * The document is lexed once and shared by every substitution.
+     *
+     * @param document the document to substitute
+     * @param guide    the guide context
+     * @param option   the guides option context
+     */
+    @Override
+    public void substitute(@NonNull AsciidocDocument document, @NonNull Guide guide, @NonNull GuidesOption option) {
+        if (profiler.isEnabled()) {
+            substituteProfiled(document, guide, option);
+            return;
+        }
         for (MacroSubstitution substitution : substitutions) {
-            result = substitution.substitute(result, guide, option);
+            substitution.substitute(document, guide, option);
+        }
+    }
+
+    private void substituteProfiled(AsciidocDocument document, Guide guide, GuidesOption option) {
+        for (MacroSubstitution substitution : substitutions) {
+            int replacements = document.getReplacements();
+            long allocatedBytes = allocatedBytes();
+            long start = System.nanoTime();
+            substitution.substitute(document, guide, option);
+            long nanos = System.nanoTime() - start;
+            profiler.record(substitution.getClass(),
+                    nanos,
+                    document.getReplacements() - replacements,
+                    allocatedBytes == -1 ? -1 : allocatedBytes() - allocatedBytes);
+        }
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread, or -1 if the JVM does not measure them.
+     */
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported()
+                && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return threadMXBean;
         }
-        return result;
+        return null;
     }
 }
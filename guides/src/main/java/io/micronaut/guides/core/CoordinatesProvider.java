@@ -30,4 +30,11 @@ public interface CoordinatesProvider {
      * @return a map where the key is a string and the value is a Coordinate object
      */
     Map<String, Coordinate> getCoordinates();
+
+    /**
+     * Discards any cached coordinates, so that the next call to {@link #getCoordinates()} resolves them again.
+     * Useful for long-running processes.
+     */
+    default void refresh() {
+    }
 }
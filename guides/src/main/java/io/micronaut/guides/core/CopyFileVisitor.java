@@ -21,18 +21,28 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
  * CopyFileVisitor is a class that extends SimpleFileVisitor to copy files and directories
- * from a source path to a target path.
+ * from a source path to a target path, or to a directory of a {@link ProjectTree}.
+ * In mirror mode, the target path becomes a copy of the source path: identical files are not copied again,
+ * and the files and directories which do not exist in the source path are deleted.
  */
 public class CopyFileVisitor extends SimpleFileVisitor<Path> {
 
     private final Path targetPath;
+    private final ProjectTree projectTree;
+    private final String targetDirectory;
+    private final boolean mirror;
     private Path sourcePath;
+    private long copiedBytes;
 
     /**
      * Constructs a new CopyFileVisitor with the specified target path.
@@ -40,7 +50,33 @@ public class CopyFileVisitor extends SimpleFileVisitor<Path> {
      * @param targetPath the target path where files and directories will be copied
      */
     public CopyFileVisitor(Path targetPath) {
+        this(targetPath, false);
+    }
+
+    /**
+     * Constructs a new CopyFileVisitor with the specified target path.
+     *
+     * @param targetPath the target path where files and directories will be copied
+     * @param mirror     whether identical files are skipped and the files missing from the source are deleted from the target
+     */
+    public CopyFileVisitor(Path targetPath, boolean mirror) {
         this.targetPath = targetPath;
+        this.projectTree = null;
+        this.targetDirectory = null;
+        this.mirror = mirror;
+    }
+
+    /**
+     * Constructs a new CopyFileVisitor which copies the files to a directory of the specified project tree.
+     *
+     * @param projectTree     the tree where files will be copied
+     * @param targetDirectory the directory of the tree where files will be copied
+     */
+    public CopyFileVisitor(ProjectTree projectTree, String targetDirectory) {
+        this.targetPath = null;
+        this.projectTree = projectTree;
+        this.targetDirectory = targetDirectory;
+        this.mirror = false;
     }
 
     /**
@@ -56,8 +92,15 @@ public class CopyFileVisitor extends SimpleFileVisitor<Path> {
     public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
         if (sourcePath == null) {
             sourcePath = dir;
-        } else {
-            Files.createDirectories(targetPath.resolve(sourcePath.relativize(dir)));
+            if (mirror) {
+                Files.createDirectories(targetPath);
+            }
+        } else if (projectTree == null) {
+            Path targetDir = targetPath.resolve(sourcePath.relativize(dir));
+            if (mirror && Files.isRegularFile(targetDir)) {
+                Files.delete(targetDir);
+            }
+            Files.createDirectories(targetDir);
         }
         return CONTINUE;
     }
@@ -73,7 +116,96 @@ public class CopyFileVisitor extends SimpleFileVisitor<Path> {
      */
     @Override
     public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-        Files.copy(file, targetPath.resolve(sourcePath.relativize(file)), REPLACE_EXISTING);
+        if (projectTree != null) {
+            projectTree.copy(file, ProjectTree.resolve(targetDirectory, sourcePath.relativize(file).toString()));
+        } else if (mirror) {
+            Path target = targetPath.resolve(sourcePath.relativize(file));
+            if (isIdentical(file, target)) {
+                return CONTINUE;
+            }
+            if (Files.isDirectory(target)) {
+                delete(target);
+            }
+            Files.copy(file, target, REPLACE_EXISTING, COPY_ATTRIBUTES);
+        } else {
+            Files.copy(file, targetPath.resolve(sourcePath.relativize(file)), REPLACE_EXISTING);
+        }
+        copiedBytes += attrs.size();
+        return CONTINUE;
+    }
+
+    /**
+     * Invoked for a directory after entries in the directory have been visited.
+     * In mirror mode, deletes the entries of the corresponding target directory which do not exist in the directory.
+     *
+     * @param dir the directory which was visited
+     * @param exc the I/O error which stopped the iteration of the directory, or null
+     * @return the visit result
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
+        if (exc != null) {
+            throw exc;
+        }
+        if (mirror) {
+            Path targetDir = targetPath.resolve(sourcePath.relativize(dir));
+            List<Path> targets;
+            try (Stream<Path> children = Files.list(targetDir)) {
+                targets = children.toList();
+            }
+            for (Path target : targets) {
+                if (!Files.exists(dir.resolve(target.getFileName().toString()))) {
+                    delete(target);
+                }
+            }
+        }
         return CONTINUE;
     }
+
+    /**
+     * Returns the size of the files copied so far. In mirror mode, the identical files which were skipped are not counted.
+     *
+     * @return the size in bytes
+     */
+    public long getCopiedBytes() {
+        return copiedBytes;
+    }
+
+    /**
+     * Checks whether the target is a file identical to the source. Files with the same size and modification time are considered
+     * identical. Files with the same size but a different modification time are compared, and the modification time of an identical
+     * target is updated so that the next check is cheap.
+     *
+     * @param source the source file
+     * @param target the target file
+     * @return true if the target is identical to the source
+     * @throws IOException if an I/O error occurs
+     */
+    static boolean isIdentical(Path source, Path target) throws IOException {
+        if (!Files.isRegularFile(target)) {
+            return false;
+        }
+        BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+        BasicFileAttributes targetAttributes = Files.readAttributes(target, BasicFileAttributes.class);
+        if (sourceAttributes.size() != targetAttributes.size()) {
+            return false;
+        }
+        if (sourceAttributes.lastModifiedTime().equals(targetAttributes.lastModifiedTime())) {
+            return true;
+        }
+        if (Files.mismatch(source, target) != -1) {
+            return false;
+        }
+        Files.setLastModifiedTime(target, sourceAttributes.lastModifiedTime());
+        return true;
+    }
+
+    private static void delete(Path path) throws IOException {
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path p : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(p);
+            }
+        }
+    }
 }
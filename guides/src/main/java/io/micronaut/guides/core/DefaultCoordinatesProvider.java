@@ -20,27 +20,48 @@ import io.micronaut.starter.build.dependencies.Coordinate;
 import io.micronaut.starter.build.dependencies.PomDependencyVersionResolver;
 import jakarta.inject.Singleton;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * Interface for generating test scripts for guides.
- * This interface provides methods to check if an app or language supports native tests,
- * if an app uses the Micronaut framework, and to generate scripts for running tests.
+ * Default implementation of {@link CoordinatesProvider}.
+ * The coordinates are resolved with the {@link PomDependencyVersionResolver} the first time they are requested and cached afterwards.
  */
 @Singleton
 public class DefaultCoordinatesProvider implements CoordinatesProvider {
 
+    private volatile Map<String, Coordinate> coordinates;
+
     /**
      * Retrieves the coordinates for dependencies by utilizing the PomDependencyVersionResolver.
      *
-     * @return a map containing the coordinates of dependencies
+     * @return an unmodifiable map containing the coordinates of dependencies
      */
     @Override
     public Map<String, Coordinate> getCoordinates() {
+        Map<String, Coordinate> result = coordinates;
+        if (result == null) {
+            synchronized (this) {
+                result = coordinates;
+                if (result == null) {
+                    result = resolveCoordinates();
+                    coordinates = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void refresh() {
+        coordinates = null;
+    }
+
+    private static Map<String, Coordinate> resolveCoordinates() {
         try (ApplicationContext context = ApplicationContext.run()) {
             PomDependencyVersionResolver pomDependencyVersionResolver = context.getBean(PomDependencyVersionResolver.class);
-            return pomDependencyVersionResolver.getCoordinates();
+            return Collections.unmodifiableMap(new LinkedHashMap<>(pomDependencyVersionResolver.getCoordinates()));
         }
     }
 }
-
@@ -15,9 +15,10 @@
  */
 package io.micronaut.guides.core;
 
-import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.guides.core.jfr.FileTransferEvent;
+import io.micronaut.starter.options.Language;
 import jakarta.inject.Singleton;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
@@ -25,12 +26,14 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
 
@@ -41,12 +44,11 @@ import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
 @Singleton
 class DefaultFilesTransferUtility implements FilesTransferUtility {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultFilesTransferUtility.class);
-    private static final String EXTENSION_JAVA = ".java";
-    private static final String EXTENSION_GROOVY = ".groovy";
-    private static final String EXTENSION_KT = ".kt";
+    private static final String LICENSE_MARKER = "Licensed under";
+    private static final int LICENSE_PEEK_SIZE = 4096;
 
-    private final LicenseLoader licenseLoader;
     private final GuidesConfiguration guidesConfiguration;
+    private final byte[] licenseHeader;
 
     /**
      * Constructs a new DefaultFilesTransferUtility.
@@ -55,167 +57,179 @@ class DefaultFilesTransferUtility implements FilesTransferUtility {
      * @param guidesConfiguration the guides configuration
      */
     DefaultFilesTransferUtility(LicenseLoader licenseLoader, GuidesConfiguration guidesConfiguration) {
-        this.licenseLoader = licenseLoader;
         this.guidesConfiguration = guidesConfiguration;
+        this.licenseHeader = licenseLoader.getLicenseHeaderText().getBytes(StandardCharsets.UTF_8);
     }
 
     /**
-     * Checks if a file contains the specified text.
-     *
-     * @param file the file to check
-     * @param text the text to look for
-     * @return true if the file contains the text, false otherwise
-     */
-    private static boolean fileContainsText(File file, String text) {
-        try {
-            return new String(Files.readAllBytes(file.toPath())).contains(text);
-        } catch (IOException e) {
-            e.printStackTrace();
-            return false;
-        }
-    }
-
-    /**
-     * Copies guide source files from the input directory to the destination path.
+     * Copies guide source files from the input directory to the destination directory of the project tree.
      *
      * @param inputDir                 the input directory
-     * @param destinationPath          the destination path
+     * @param projectTree              the project tree
+     * @param destination              the destination directory of the project tree
      * @param appName                  the application name
      * @param language                 the programming language
-     * @param ignoreMissingDirectories whether to ignore missing directories
+     * @return the size of the copied files in bytes
      * @throws IOException if an I/O error occurs during file copy
      */
-    private static void copyGuideSourceFiles(File inputDir, Path destinationPath, String appName, String language, boolean ignoreMissingDirectories) throws IOException {
+    private static long copyGuideSourceFiles(File inputDir, ProjectTree projectTree, String destination, String appName, String language) throws IOException {
 
         // look for a common 'src' directory shared by multiple languages and copy those files first
         final String srcFolder = "src";
+        long copiedBytes = 0;
         Path srcPath = Paths.get(inputDir.getAbsolutePath(), appName, srcFolder);
         if (Files.exists(srcPath)) {
-            Files.walkFileTree(srcPath, new CopyFileVisitor(Paths.get(destinationPath.toString(), srcFolder)));
+            CopyFileVisitor copyFileVisitor = new CopyFileVisitor(projectTree, ProjectTree.resolve(destination, srcFolder));
+            Files.walkFileTree(srcPath, copyFileVisitor);
+            copiedBytes += copyFileVisitor.getCopiedBytes();
         }
 
+        // copy source/resource files for the current language
         Path sourcePath = Paths.get(inputDir.getAbsolutePath(), appName, language);
-        if (!Files.exists(sourcePath)) {
-            sourcePath.toFile().mkdir();
-        }
         if (Files.exists(sourcePath)) {
-            // copy source/resource files for the current language
-            Files.walkFileTree(sourcePath, new CopyFileVisitor(destinationPath));
-        } else if (!ignoreMissingDirectories) {
-            throw new ConfigurationException("source directory " + sourcePath.toFile().getAbsolutePath() + " does not exist");
+            CopyFileVisitor copyFileVisitor = new CopyFileVisitor(projectTree, destination);
+            Files.walkFileTree(sourcePath, copyFileVisitor);
+            copiedBytes += copyFileVisitor.getCopiedBytes();
         }
+        return copiedBytes;
     }
 
     /**
-     * Returns a file to be deleted based on the destination and path.
-     *
-     * @param destination the destination directory
-     * @param path        the path of the file to delete
-     * @return the file to delete
-     */
-    private static File fileToDelete(File destination, String path) {
-        return Paths.get(destination.getAbsolutePath(), path).toFile();
-    }
-
-    /**
-     * Copies a file from the input directory to the destination root.
+     * Transfers files from the input directory to the output directory for the provided guide.
+     * The files already present in the output directory are only read when needed, and only the transferred files are written.
+     * When {@link GuidesConfiguration#isLinkFiles()} is enabled, the guide sources which are not modified are hard linked.
      *
-     * @param inputDir        the input directory
-     * @param destinationRoot the destination root
-     * @param filePath        the file path
-     * @throws IOException if an I/O error occurs during file copy
+     * @param inputDirectory  the directory containing the input files
+     * @param outputDirectory the directory where the files will be transferred
+     * @param guide           the guide metadata
+     * @throws IOException if an I/O error occurs during file transfer
      */
-    private static void copyFile(File inputDir, File destinationRoot, String filePath) throws IOException {
-        File sourceFile = new File(inputDir, filePath);
-        File destinationFile = new File(destinationRoot, filePath);
-
-        File destinationFileDir = destinationFile.getParentFile();
-        if (!destinationFileDir.exists()) {
-            Files.createDirectories(destinationFileDir.toPath());
+    @Override
+    public void transferFiles(@NotNull @NonNull File inputDirectory, @NotNull @NonNull File outputDirectory, @NotNull @NonNull Guide guide) throws IOException {
+        ProjectTree projectTree = ProjectTree.load(outputDirectory.toPath());
+        transferFiles(inputDirectory, projectTree, guide);
+        long linkedBytes = projectTree.flush(outputDirectory.toPath(), guidesConfiguration.isLinkFiles());
+        if (guidesConfiguration.isLinkFiles()) {
+            LOG.debug("Linked {} bytes of guide {} instead of copying them", linkedBytes, guide.getSlug());
         }
-
-        Files.copy(sourceFile.toPath(), destinationFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
     }
 
     /**
-     * Transfers files from the input directory to the output directory for the provided guide.
+     * Transfers files from the input directory into the project tree for the provided guide.
+     * The transfer of each app emits a {@link FileTransferEvent}.
      *
-     * @param inputDirectory  the directory containing the input files
-     * @param outputDirectory the directory where the files will be transferred
-     * @param guide           the guide metadata
+     * @param inputDirectory the directory containing the input files
+     * @param projectTree    the tree where the files will be transferred
+     * @param guide          the guide metadata
      * @throws IOException if an I/O error occurs during file transfer
      */
     @Override
-    public void transferFiles(@NotNull @NonNull File inputDirectory, @NotNull @NonNull File outputDirectory, @NotNull @NonNull Guide guide) throws IOException {
+    public void transferFiles(@NotNull @NonNull File inputDirectory, @NotNull @NonNull ProjectTree projectTree, @NotNull @NonNull Guide guide) throws IOException {
         List<GuidesOption> guidesOptionList = GuideGenerationUtils.guidesOptions(guide, LOG);
         for (GuidesOption guidesOption : guidesOptionList) {
             for (App app : guide.getApps()) {
                 String appName = app.getName().equals(guidesConfiguration.getDefaultAppName()) ? EMPTY_STRING : app.getName();
                 String folder = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
-                Path destinationPath = Paths.get(outputDirectory.getAbsolutePath(), folder, appName);
-                File destination = destinationPath.toFile();
+                String destination = ProjectTree.resolve(folder, appName);
+                FileTransferEvent event = new FileTransferEvent();
+                event.begin();
+                long copiedBytes = 0;
 
                 if (guide.getBase() != null) {
                     File baseDir = new File(inputDirectory.getParentFile(), guide.getBase());
-                    copyGuideSourceFiles(baseDir, destinationPath, appName, guidesOption.getLanguage().toString(), true);
+                    copiedBytes += copyGuideSourceFiles(baseDir, projectTree, destination, appName, guidesOption.getLanguage().toString());
                 }
 
-                copyGuideSourceFiles(inputDirectory, destinationPath, appName, guidesOption.getLanguage().toString(), false);
+                copiedBytes += copyGuideSourceFiles(inputDirectory, projectTree, destination, appName, guidesOption.getLanguage().toString());
 
                 if (app.getExcludeSource() != null) {
                     for (String mainSource : app.getExcludeSource()) {
-                        File f = fileToDelete(destination, GuideGenerationUtils.mainPath(appName, mainSource, guidesOption, guidesConfiguration));
-                        if (f.exists()) {
-                            f.delete();
-                        }
-                        f = fileToDelete(destination, GuideGenerationUtils.mainPath(appName, mainSource, guidesOption, guidesConfiguration));
-                        if (f.exists()) {
-                            f.delete();
-                        }
+                        projectTree.delete(ProjectTree.resolve(destination, GuideGenerationUtils.mainPath(appName, mainSource, guidesOption, guidesConfiguration)));
                     }
                 }
 
                 if (app.getExcludeTest() != null) {
                     for (String testSource : app.getExcludeTest()) {
-                        File f = fileToDelete(destination, GuideGenerationUtils.testPath(appName, testSource, guidesOption, guidesConfiguration));
-                        if (f.exists()) {
-                            f.delete();
-                        }
-                        f = fileToDelete(destination, GuideGenerationUtils.testPath(appName, testSource, guidesOption, guidesConfiguration));
-                        if (f.exists()) {
-                            f.delete();
-                        }
+                        projectTree.delete(ProjectTree.resolve(destination, GuideGenerationUtils.testPath(appName, testSource, guidesOption, guidesConfiguration)));
                     }
                 }
 
                 if (guide.getZipIncludes() != null) {
-                    File destinationRoot = new File(outputDirectory.getAbsolutePath(), folder);
                     for (String zipInclude : guide.getZipIncludes()) {
-                        copyFile(inputDirectory, destinationRoot, zipInclude);
+                        File zipIncludeFile = new File(inputDirectory, zipInclude);
+                        projectTree.copy(zipIncludeFile.toPath(), ProjectTree.resolve(folder, zipInclude));
+                        copiedBytes += zipIncludeFile.length();
                     }
                 }
-                addLicenses(new File(outputDirectory.getAbsolutePath(), folder));
+
+                event.end();
+                if (event.shouldCommit()) {
+                    event.slug = guide.getSlug();
+                    event.app = app.getName();
+                    event.buildTool = guidesOption.getBuildTool().toString();
+                    event.language = guidesOption.getLanguage().toString();
+                    event.bytes = copiedBytes;
+                    event.commit();
+                }
             }
+            addLicenses(projectTree, MacroUtils.getSourceDir(guide.getSlug(), guidesOption));
         }
     }
 
     /**
-     * Adds license headers to the files in the specified folder.
+     * Adds the license header to the source files in the specified folder of the project tree which do not have one.
+     * The source files are those whose extension is listed by {@link GuidesConfiguration#getFilesWithHeader()}, either directly
+     * or through the name of a {@link Language}. Only the first bytes of each file are read, concurrently, to look for a license,
+     * and the header is prepended without reading the rest of the file.
      *
-     * @param folder the folder containing the files to which license headers will be added
+     * @param projectTree the project tree
+     * @param folder      the folder containing the files to which license headers will be added
      */
-    void addLicenses(File folder) {
-        String licenseHeader = licenseLoader.getLicenseHeaderText();
-        Arrays.stream(folder.listFiles()).forEach(file -> {
-            if ((file.getPath().endsWith(EXTENSION_JAVA) || file.getPath().endsWith(EXTENSION_GROOVY) || file.getPath().endsWith(EXTENSION_KT))
-                    && !fileContainsText(file, "Licensed under")) {
-                try {
-                    String content = new String(Files.readAllBytes(file.toPath()));
-                    Files.write(file.toPath(), (licenseHeader + content).getBytes());
-                } catch (IOException e) {
-                    e.printStackTrace();
+    void addLicenses(ProjectTree projectTree, String folder) {
+        if (licenseHeader.length == 0) {
+            return;
+        }
+        Set<String> extensions = filesWithHeaderExtensions();
+        List<String> unlicensed = projectTree.list(folder).parallelStream()
+                .filter(path -> extensions.contains(extension(path)))
+                .filter(path -> !hasLicense(projectTree, path))
+                .toList();
+        for (String path : unlicensed) {
+            try {
+                projectTree.prepend(path, licenseHeader);
+            } catch (IOException e) {
+                LOG.error("Error adding the license header to {}: {}", path, e.getMessage(), e);
+            }
+        }
+    }
+
+    private Set<String> filesWithHeaderExtensions() {
+        Set<String> extensions = new HashSet<>();
+        for (String fileWithHeader : guidesConfiguration.getFilesWithHeader()) {
+            extensions.add(fileWithHeader);
+            for (Language language : Language.values()) {
+                if (language.toString().equals(fileWithHeader)) {
+                    extensions.add(language.getExtension());
                 }
             }
-        });
+        }
+        return extensions;
+    }
+
+    private static String extension(String path) {
+        int index = path.lastIndexOf('.');
+        return index == -1 || index < path.lastIndexOf('/') ? "" : path.substring(index + 1);
+    }
+
+    /**
+     * Checks whether the first bytes of a file contain a license. A file which cannot be read is considered licensed.
+     */
+    private static boolean hasLicense(ProjectTree projectTree, String path) {
+        try (InputStream inputStream = projectTree.open(path)) {
+            return new String(inputStream.readNBytes(LICENSE_PEEK_SIZE), StandardCharsets.UTF_8).contains(LICENSE_MARKER);
+        } catch (IOException e) {
+            LOG.error("Error reading {}: {}", path, e.getMessage(), e);
+            return true;
+        }
     }
 }
@@ -17,10 +17,6 @@ package io.micronaut.guides.core;
 
 import jakarta.inject.Singleton;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.lang.reflect.WildcardType;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -60,42 +56,37 @@ public class DefaultGuideMerger implements GuideMerger {
     }
 
     /**
-     * Merges two guide metadata objects.
+     * Merges two guide metadata objects. Each metadata class merges its own properties in
+     * {@link Guide#mergeBase(Guide)} or {@link App#mergeBase(App)}, so no reflection is involved.
      *
      * @param base  The base guide metadata object.
      * @param guide The guide metadata object to merge into the base.
      * @param <T>   The type of the guide metadata objects.
      */
     public <T> void merge(T base, T guide) {
-        try {
-            for (Field field : guide.getClass().getDeclaredFields()) {
-                field.setAccessible(true);
-
-                Object guideValue = field.get(guide);
-                Object baseValue = field.get(base);
-
-                if (guideValue instanceof List<?>) {
-                    if (isOfType(field, App.class.getName())) {
-                        List<App> mergedApps = mergeApps((List<App>) baseValue, (List<App>) guideValue);
-                        field.set(guide, mergedApps);
-                    } else {
-                        List<?> mergedList = GuideMerger.mergeLists((List<?>) baseValue, (List<?>) guideValue);
-                        field.set(guide, mergedList);
-                    }
-                } else if (guideValue == null) {
-                    field.set(guide, baseValue);
-                }
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Error merging guides", e);
+        if (base instanceof Guide baseGuide && guide instanceof Guide g) {
+            mergeGuide(baseGuide, g);
+        } else if (base instanceof App baseApp && guide instanceof App app) {
+            app.mergeBase(baseApp);
+        } else {
+            throw new IllegalArgumentException("Cannot merge " + guide + " with base " + base);
         }
     }
 
-    private <T extends App> List<T> mergeApps(List<T> base, List<T> guide) {
-        Map<String, T> baseApps = base.stream()
+    private void mergeGuide(Guide base, Guide guide) {
+        guide.mergeBase(base);
+        List<? extends App> apps = guide.getApps();
+        guide.setApps(apps == null ? base.getApps() : mergeApps(base.getApps(), apps));
+    }
+
+    private List<? extends App> mergeApps(List<? extends App> base, List<? extends App> guide) {
+        if (base == null) {
+            return guide;
+        }
+        Map<String, App> baseApps = base.stream()
                 .collect(Collectors.toMap(App::getName, app -> app));
 
-        Map<String, T> guideApps = guide.stream()
+        Map<String, App> guideApps = guide.stream()
                 .collect(Collectors.toMap(App::getName, app -> app));
 
         Set<String> baseOnly = new HashSet<>(baseApps.keySet());
@@ -107,7 +98,7 @@ public class DefaultGuideMerger implements GuideMerger {
         Set<String> inBoth = new HashSet<>(baseApps.keySet());
         inBoth.retainAll(guideApps.keySet());
 
-        List<T> merged = new ArrayList<>(baseOnly.stream()
+        List<App> merged = new ArrayList<>(baseOnly.stream()
                 .map(baseApps::get)
                 .toList());
 
@@ -116,35 +107,12 @@ public class DefaultGuideMerger implements GuideMerger {
                 .toList());
 
         for (String name : inBoth) {
-            T baseApp = baseApps.get(name);
-            T guideApp = guideApps.get(name);
-            merge(baseApp, guideApp);
+            App baseApp = baseApps.get(name);
+            App guideApp = guideApps.get(name);
+            guideApp.mergeBase(baseApp);
             merged.add(guideApp);
         }
 
         return merged;
     }
-
-    private boolean isOfType(Field field, String type) {
-        ParameterizedType stringListType = (ParameterizedType) field.getGenericType();
-        Type actualTypeArgument = ((ParameterizedType) stringListType).getActualTypeArguments()[0];
-
-        if (actualTypeArgument instanceof Class<?>) {
-            Class<?> stringListClass = (Class<?>) actualTypeArgument;
-            if (stringListClass.getName().equals(type)) {
-                return true;
-            }
-        } else if (actualTypeArgument instanceof WildcardType) {
-            WildcardType wildcardType = (WildcardType) actualTypeArgument;
-            Type[] upperBounds = wildcardType.getUpperBounds();
-            if (upperBounds.length > 0 && upperBounds[0] instanceof Class<?>) {
-                Class<?> boundClass = (Class<?>) upperBounds[0];
-                if (boundClass.getName().equals(type)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
-    }
 }
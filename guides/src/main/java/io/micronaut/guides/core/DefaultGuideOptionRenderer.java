@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.guides.core.asciidoc.AsciidocConverter;
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
+import io.micronaut.guides.core.asciidoc.AsciidocHtml;
+import io.micronaut.guides.core.html.GuidePageGenerator;
+import io.micronaut.guides.core.html.HtmlTemplate;
+import jakarta.inject.Singleton;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * Default implementation of the {@link GuideOptionRenderer} interface.
+ * The guide asciidoc goes through the {@link MacroSubstitution}, the {@link AsciidocConverter} and the {@link GuidePageGenerator}.
+ * Each of these stages is timed with {@link BuildMetrics}. The table of contents is rendered by the {@link AsciidocConverter}
+ * apart from the guide content, and both are streamed to the writer.
+ */
+@Internal
+@Singleton
+class DefaultGuideOptionRenderer implements GuideOptionRenderer {
+    private static final String SECTION_LINK_PREFIX = "https://graal.cloud/gdk/docs/gdk-modules/";
+
+    private final MacroSubstitution macroSubstitution;
+    private final AsciidocConverter asciidocConverter;
+    private final GuidePageGenerator guidePageGenerator;
+    private final BuildMetrics buildMetrics;
+
+    DefaultGuideOptionRenderer(MacroSubstitution macroSubstitution,
+                               AsciidocConverter asciidocConverter,
+                               GuidePageGenerator guidePageGenerator,
+                               BuildMetrics buildMetrics) {
+        this.macroSubstitution = macroSubstitution;
+        this.asciidocConverter = asciidocConverter;
+        this.guidePageGenerator = guidePageGenerator;
+        this.buildMetrics = buildMetrics;
+    }
+
+    @Override
+    public void render(@NonNull @NotNull Guide guide,
+                       @NonNull @NotNull GuidesOption guidesOption,
+                       @NonNull @NotNull AsciidocDocument document,
+                       @NonNull @NotNull File inputDirectory,
+                       @NonNull @NotNull File outputDirectory,
+                       @NonNull @NotNull Writer writer) throws IOException {
+        File guideOutput = new File(outputDirectory, guide.getSlug());
+        String name = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
+
+        // Macro substitution
+        long start = System.nanoTime();
+        AsciidocDocument optionDocument = document.copy();
+        macroSubstitution.substitute(optionDocument, guide, guidesOption);
+        String optionAsciidoc = optionDocument.toString();
+        buildMetrics.record(BuildStage.MACRO_SUBSTITUTION, guide, guidesOption, start);
+
+        // HTML rendering
+
+        start = System.nanoTime();
+        AsciidocHtml html = asciidocConverter.convertWithToc(optionAsciidoc, inputDirectory, outputDirectory.getAbsolutePath(), new File(guideOutput, name).getAbsolutePath());
+        buildMetrics.record(BuildStage.ASCIIDOCTOR, guide, guidesOption, start);
+
+        start = System.nanoTime();
+        String section = guide.getCategories().get(0);
+        guidePageGenerator.render(writer, Map.of(
+                GuidePageGenerator.SLOT_TOC, HtmlTemplate.Slot.of(html.toc()),
+                GuidePageGenerator.SLOT_CONTENT, HtmlTemplate.Slot.of(html.content()),
+                GuidePageGenerator.SLOT_TITLE, HtmlTemplate.Slot.of(guide.getTitle()),
+                GuidePageGenerator.SLOT_SECTION, HtmlTemplate.Slot.of(section),
+                GuidePageGenerator.SLOT_SECTION_LINK, HtmlTemplate.Slot.of(SECTION_LINK_PREFIX + section.toLowerCase() + "/")));
+        buildMetrics.record(BuildStage.PAGE_RENDER, guide, guidesOption, start);
+    }
+}
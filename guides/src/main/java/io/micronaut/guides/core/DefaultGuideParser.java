@@ -19,7 +19,9 @@ import com.networknt.schema.InputFormat;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.ValidationMessage;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.json.JsonMapper;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
@@ -30,9 +32,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Class that provides methods to parse guide metadata.
@@ -44,41 +48,82 @@ public class DefaultGuideParser implements GuideParser {
     private final JsonSchema jsonSchema;
     private final JsonMapper jsonMapper;
     private final GuideMerger guideMerger;
+    private final boolean parallel;
+    private final File metadataCacheFile;
 
     /**
-     * Constructs a new DefaultGuideParser.
+     * Constructs a new DefaultGuideParser which parses the guides sequentially without a metadata cache.
      *
      * @param jsonSchemaProvider the JSON schema provider
      * @param jsonMapper         the JSON mapper
      * @param guideMerger        the guide merger
      */
     public DefaultGuideParser(JsonSchemaProvider jsonSchemaProvider, JsonMapper jsonMapper, GuideMerger guideMerger) {
+        this(jsonSchemaProvider, jsonMapper, guideMerger, false, null);
+    }
+
+    /**
+     * Constructs a new DefaultGuideParser.
+     *
+     * @param jsonSchemaProvider  the JSON schema provider
+     * @param jsonMapper          the JSON mapper
+     * @param guideMerger         the guide merger
+     * @param guidesConfiguration the guides configuration
+     */
+    @Inject
+    public DefaultGuideParser(JsonSchemaProvider jsonSchemaProvider,
+                              JsonMapper jsonMapper,
+                              GuideMerger guideMerger,
+                              GuidesConfiguration guidesConfiguration) {
+        this(jsonSchemaProvider, jsonMapper, guideMerger, guidesConfiguration.isParallel(), guidesConfiguration.getMetadataCacheFile());
+    }
+
+    private DefaultGuideParser(JsonSchemaProvider jsonSchemaProvider,
+                               JsonMapper jsonMapper,
+                               GuideMerger guideMerger,
+                               boolean parallel,
+                               @Nullable File metadataCacheFile) {
         this.jsonSchema = jsonSchemaProvider.getSchema();
         this.jsonMapper = jsonMapper;
         this.guideMerger = guideMerger;
+        this.parallel = parallel;
+        this.metadataCacheFile = metadataCacheFile;
     }
 
     @Override
     @NonNull
     public List<? extends Guide> parseGuidesMetadata(@NonNull @NotNull File guidesDir, @NonNull @NotNull String metadataConfigName) {
-        List<Guide> metadatas = new ArrayList<>();
-
         File[] dirs = guidesDir.listFiles(File::isDirectory);
         if (dirs == null) {
-            return metadatas;
-        }
-        for (File dir : dirs) {
-            parseGuideMetadata(dir, metadataConfigName).ifPresent(metadatas::add);
+            return new ArrayList<>();
         }
+        GuideMetadataCache cache = metadataCacheFile != null ? GuideMetadataCache.load(metadataCacheFile, jsonSchema.getSchemaNode().toString()) : null;
+        // every guide is read and validated independently, the guides are merged once all of them are parsed
+        Stream<File> stream = parallel ? Arrays.stream(dirs).parallel() : Arrays.stream(dirs);
+        List<Guide> metadatas = new ArrayList<>(stream
+                .map(dir -> parseGuideMetadata(dir, metadataConfigName, cache))
+                .flatMap(Optional::stream)
+                .toList());
 
         guideMerger.mergeGuides(metadatas);
 
+        if (cache != null) {
+            try {
+                cache.save();
+            } catch (IOException e) {
+                LOG.warn("Could not write the guide metadata cache {}", metadataCacheFile, e);
+            }
+        }
         return metadatas;
     }
 
     @Override
     @NonNull
     public Optional<? extends Guide> parseGuideMetadata(@NonNull @NotNull File guidesDir, @NonNull @NotNull String metadataConfigName) {
+        return parseGuideMetadata(guidesDir, metadataConfigName, null);
+    }
+
+    private Optional<Guide> parseGuideMetadata(File guidesDir, String metadataConfigName, @Nullable GuideMetadataCache cache) {
         File configFile = new File(guidesDir, metadataConfigName);
         if (!configFile.exists()) {
             LOG.warn("metadata file not found for {}", guidesDir.getName());
@@ -96,13 +141,16 @@ public class DefaultGuideParser implements GuideParser {
         Guide guide;
         try {
             guide = jsonMapper.readValue(content, Guide.class);
-            if (guide.isPublish()) {
+            if (guide.isPublish() && (cache == null || !cache.isValid(configFile, content))) {
                 Set<ValidationMessage> assertions = jsonSchema.validate(content, InputFormat.JSON);
 
                 if (!assertions.isEmpty()) {
                     LOG.trace("Guide metadata {} does not validate the JSON Schema. Skipping guide.", configFile);
                     return Optional.empty();
                 }
+                if (cache != null) {
+                    cache.putValid(configFile, content);
+                }
             }
         } catch (IOException e) {
             LOG.trace("Error parsing guide metadata {}. Skipping guide.", configFile, e);
@@ -18,6 +18,7 @@ package io.micronaut.guides.core;
 import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.guides.core.jfr.ProjectGenerationEvent;
 import io.micronaut.http.exceptions.HttpStatusException;
 import io.micronaut.starter.api.TestFramework;
 import io.micronaut.starter.application.ApplicationType;
@@ -25,7 +26,6 @@ import io.micronaut.starter.application.Project;
 import io.micronaut.starter.application.generator.GeneratorContext;
 import io.micronaut.starter.application.generator.ProjectGenerator;
 import io.micronaut.starter.io.ConsoleOutput;
-import io.micronaut.starter.io.FileSystemOutputHandler;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.JdkVersion;
 import io.micronaut.starter.options.Language;
@@ -39,11 +39,18 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
 import static io.micronaut.http.HttpStatus.BAD_REQUEST;
@@ -52,18 +59,27 @@ import static io.micronaut.starter.options.JdkVersion.JDK_8;
 
 /**
  * Builder class for constructing SourceBlock instances.
+ * Projects are generated into a {@link ProjectTree}, the methods generating into a directory write the tree to disk once.
+ * When {@link GuidesConfiguration#isProjectCache()} is enabled, each distinct Micronaut Starter project is generated once
+ * in memory and copied to every destination. The cache is scoped to a build and discarded by {@link #clearCache()}.
  */
 @Singleton
 public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultGuideProjectGenerator.class);
     private final GuidesConfiguration guidesConfiguration;
     private final ProjectGenerator projectGenerator;
+    private final ConcurrentMap<String, FutureTask<ProjectTree>> cachedProjects = new ConcurrentHashMap<>();
 
     DefaultGuideProjectGenerator(GuidesConfiguration guidesConfiguration, ProjectGenerator projectGenerator) {
         this.guidesConfiguration = guidesConfiguration;
         this.projectGenerator = projectGenerator;
     }
 
+    @Override
+    public void clearCache() {
+        cachedProjects.clear();
+    }
+
     /**
      * Generates the project files for the given guide in the specified output directory.
      *
@@ -81,6 +97,20 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
             throw new ConfigurationException("Output directory must be a directory");
         }
 
+        ProjectTree projectTree = new ProjectTree();
+        generate(projectTree, guide);
+        projectTree.flush(outputDirectory.toPath());
+    }
+
+    /**
+     * Generates the project files for the given guide into the specified project tree.
+     *
+     * @param projectTree the tree where the project files will be generated
+     * @param guide       the guide containing the project details
+     * @throws IOException if an I/O error occurs during project generation
+     */
+    @Override
+    public void generate(@NotNull @NonNull ProjectTree projectTree, @NotNull @NonNull Guide guide) throws IOException {
         JdkVersion javaVersion = GuideGenerationUtils.resolveJdkVersion(guidesConfiguration, guide);
         if (GuideGenerationUtils.skipBecauseOfJavaVersion(guide, guidesConfiguration)) {
             if (LOG.isTraceEnabled()) {
@@ -91,7 +121,9 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
 
         List<GuidesOption> guidesOptionList = GuideGenerationUtils.guidesOptions(guide, LOG);
         for (GuidesOption guidesOption : guidesOptionList) {
-            generate(outputDirectory, guide, guidesOption, javaVersion);
+            for (App app : guide.getApps()) {
+                generate(projectTree, guide, guidesOption, javaVersion, app);
+            }
         }
     }
 
@@ -105,9 +137,11 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
      * @throws IOException if an I/O error occurs during project generation
      */
     public void generate(@NonNull File outputDirectory, @NonNull Guide guide, @NonNull GuidesOption guidesOption, @NonNull JdkVersion javaVersion) throws IOException {
+        ProjectTree projectTree = new ProjectTree();
         for (App app : guide.getApps()) {
-            generate(outputDirectory, guide, guidesOption, javaVersion, app);
+            generate(projectTree, guide, guidesOption, javaVersion, app);
         }
+        projectTree.flush(outputDirectory.toPath());
     }
 
     /**
@@ -121,6 +155,23 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
      * @throws IOException if an I/O error occurs during project generation
      */
     public void generate(@NonNull File outputDirectory, @NonNull Guide guide, @NonNull GuidesOption guidesOption, @NonNull JdkVersion javaVersion, @NonNull App app) throws IOException {
+        ProjectTree projectTree = new ProjectTree();
+        generate(projectTree, guide, guidesOption, javaVersion, app);
+        projectTree.flush(outputDirectory.toPath());
+    }
+
+    /**
+     * Generates the project files for the given guide, guides option, and app into the specified project tree.
+     * Emits a {@link ProjectGenerationEvent}.
+     *
+     * @param projectTree  the tree where the project files will be generated
+     * @param guide        the guide containing the project details
+     * @param guidesOption the guides option containing additional configuration
+     * @param javaVersion  the JDK version to be used for the project
+     * @param app          the app containing the application details
+     * @throws IOException if an I/O error occurs during project generation
+     */
+    public void generate(@NonNull ProjectTree projectTree, @NonNull Guide guide, @NonNull GuidesOption guidesOption, @NonNull JdkVersion javaVersion, @NonNull App app) throws IOException {
         List<String> appFeatures = new ArrayList<>(app.features(guidesOption.getLanguage()));
         if (!guidesConfiguration.getJdkVersionsSupportedByGraalvm().contains(javaVersion)) {
             appFeatures.remove("graalvm");
@@ -131,12 +182,10 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
 
         String appName = app.getName().equals(guidesConfiguration.getDefaultAppName()) ? EMPTY_STRING : app.getName();
 
-        Path destinationPath = Paths.get(outputDirectory.getAbsolutePath(), folder, appName);
-        File destination = destinationPath.toFile();
-        destination.mkdir();
+        String destination = ProjectTree.resolve(folder, appName);
 
         String packageAndName = guidesConfiguration.getPackageName() + '.' + app.getName();
-        GeneratorContext generatorContext = createProjectGeneratorContext(app.getApplicationType(),
+        ProjectSpec projectSpec = new ProjectSpec(app.getApplicationType(),
                 packageAndName,
                 app.getFramework(),
                 appFeatures,
@@ -144,10 +193,70 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
                 app.getTestFramework() != null ? app.getTestFramework() : guidesOption.getTestFramework(),
                 guidesOption.getLanguage(),
                 javaVersion);
+        ProjectGenerationEvent event = new ProjectGenerationEvent();
+        event.begin();
+        long sizeBefore = event.isEnabled() ? projectTree.size(destination) : 0;
+        if (guidesConfiguration.isProjectCache()) {
+            cachedProject(projectSpec).copyTo(projectTree, destination);
+        } else {
+            generateProject(projectTree, destination, projectSpec);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.slug = guide.getSlug();
+            event.app = app.getName();
+            event.buildTool = guidesOption.getBuildTool().toString();
+            event.language = guidesOption.getLanguage().toString();
+            event.bytes = projectTree.size(destination) - sizeBefore;
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the cached project for the given specification, generating it on the first call.
+     * Concurrent calls for the same specification wait for a single generation.
+     */
+    private ProjectTree cachedProject(ProjectSpec projectSpec) throws IOException {
+        String key = projectSpec.key();
+        FutureTask<ProjectTree> task = new FutureTask<>(() -> {
+            ProjectTree project = new ProjectTree();
+            generateProject(project, EMPTY_STRING, projectSpec);
+            return project;
+        });
+        FutureTask<ProjectTree> cached = cachedProjects.putIfAbsent(key, task);
+        if (cached == null) {
+            cached = task;
+            task.run();
+        } else if (LOG.isTraceEnabled()) {
+            LOG.trace("reusing generated project {} for {}", key, projectSpec);
+        }
+        try {
+            return cached.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating application", e);
+        } catch (ExecutionException e) {
+            cachedProjects.remove(key, cached);
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void generateProject(ProjectTree projectTree, String destination, ProjectSpec projectSpec) throws IOException {
+        GeneratorContext generatorContext = createProjectGeneratorContext(projectSpec.applicationType(),
+                projectSpec.packageAndName(),
+                projectSpec.framework(),
+                projectSpec.features(),
+                projectSpec.buildTool(),
+                projectSpec.testFramework(),
+                projectSpec.language(),
+                projectSpec.javaVersion());
         try {
-            projectGenerator.generate(app.getApplicationType(),
+            projectGenerator.generate(projectSpec.applicationType(),
                     generatorContext.getProject(),
-                    new FileSystemOutputHandler(destination, ConsoleOutput.NOOP),
+                    new ProjectTreeOutputHandler(projectTree, destination),
                     generatorContext);
         } catch (Exception e) {
             LOG.error("Error generating application: " + e.getMessage(), e);
@@ -176,4 +285,40 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
                 ConsoleOutput.NOOP
         );
     }
+
+    /**
+     * The inputs of Micronaut Starter which determine the generated project.
+     */
+    private record ProjectSpec(ApplicationType applicationType,
+                               String packageAndName,
+                               String framework,
+                               List<String> features,
+                               BuildTool buildTool,
+                               TestFramework testFramework,
+                               Language language,
+                               JdkVersion javaVersion) {
+
+        /**
+         * Hashes the inputs. Features are sorted as their order does not change the generated project.
+         *
+         * @return the SHA-256 of the inputs
+         */
+        String key() {
+            String inputs = String.join("\n",
+                    String.valueOf(applicationType),
+                    packageAndName,
+                    String.valueOf(framework),
+                    String.join(",", new TreeSet<>(features)),
+                    String.valueOf(buildTool),
+                    String.valueOf(testFramework),
+                    String.valueOf(language),
+                    String.valueOf(javaVersion));
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(digest.digest(inputs.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
@@ -15,28 +15,74 @@
  */
 package io.micronaut.guides.core;
 
+import io.micronaut.guides.core.jfr.ZipEvent;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Singleton;
+import org.apache.commons.compress.archivers.zip.ScatterZipOutputStream;
+import org.apache.commons.compress.archivers.zip.StreamCompressor;
 import org.apache.commons.compress.archivers.zip.UnixStat;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntryRequest;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.parallel.ScatterGatherBackingStore;
 import org.apache.commons.compress.utils.IOUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.GregorianCalendar;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
 
 /**
  * Default implementation of the {@link GuideProjectZipper} interface.
- * This class provides functionality to zip a directory into a single output file.
+ * This class provides functionality to zip a directory, of the file system or of a {@link ProjectTree}, into a single output file.
+ * Every zip emits a {@link ZipEvent}. Reproducible zips are deflated on the caller thread when the guides are already generated in
+ * parallel, and otherwise by an executor shared by every zip and bounded by {@link GuidesConfiguration#getParallelism()}.
  */
 @Singleton
 public class DefaultGuideProjectZipper implements GuideProjectZipper {
     private static final List<String> EXCLUDED_FILES = List.of(".idea", ".DS_Store");
     private static final List<String> EXECUTABLES = List.of("gradlew", "gradlew.bat", "mvnw", "mvnw.bat");
+    // DOS timestamps are stored in local time, thus the same local date is used regardless of the time zone
+    private static final long REPRODUCIBLE_TIME = new GregorianCalendar(1980, Calendar.FEBRUARY, 1, 0, 0, 0).getTimeInMillis();
+    private static final int FILE_MODE = UnixStat.FILE_FLAG | 0644;
+    private static final int EXECUTABLE_MODE = UnixStat.FILE_FLAG | 0755;
+
+    private final GuidesConfiguration guidesConfiguration;
+    private volatile ExecutorService executor;
+
+    /**
+     * Constructs a new DefaultGuideProjectZipper.
+     *
+     * @param guidesConfiguration the guides configuration
+     */
+    public DefaultGuideProjectZipper(GuidesConfiguration guidesConfiguration) {
+        this.guidesConfiguration = guidesConfiguration;
+    }
 
     /**
      * Compresses the contents of the specified source directory into a zip file.
@@ -44,15 +90,17 @@ public class DefaultGuideProjectZipper implements GuideProjectZipper {
      * @param rootDir   the root directory of the source files
      * @param sourceDir the source directory to be compressed
      * @param out       the {@link ZipArchiveOutputStream} to write the compressed data
+     * @return the number of entries written
      * @throws IOException if an I/O error occurs during compression
      */
-    private static void compressDirectoryToZipfile(String rootDir, String sourceDir, ZipArchiveOutputStream out) throws IOException {
+    private static int compressDirectoryToZipfile(String rootDir, String sourceDir, ZipArchiveOutputStream out) throws IOException {
+        int entries = 0;
         for (File file : new File(sourceDir).listFiles()) {
             if (EXCLUDED_FILES.contains(file.getName())) {
                 continue;
             }
             if (file.isDirectory()) {
-                compressDirectoryToZipfile(rootDir, sourceDir + File.separatorChar + file.getName(), out);
+                entries += compressDirectoryToZipfile(rootDir, sourceDir + File.separatorChar + file.getName(), out);
             } else {
                 String zipPath = sourceDir.replace(rootDir, "") + '/' + file.getName();
                 if (zipPath.charAt(0) == '/') {
@@ -68,14 +116,236 @@ public class DefaultGuideProjectZipper implements GuideProjectZipper {
                 IOUtils.copy(in, out);
                 IOUtils.closeQuietly(in);
                 out.closeArchiveEntry();
+                entries++;
             }
         }
+        return entries;
     }
 
     @Override
     public void zipDirectory(String sourceDir, String outputFile) throws IOException {
+        ZipEvent event = new ZipEvent();
+        event.begin();
+        if (guidesConfiguration.isReproducibleZips()) {
+            Path rootDir = Paths.get(sourceDir);
+            List<ZipSource> sources = new ArrayList<>();
+            for (Path file : listFiles(rootDir)) {
+                sources.add(new ZipSource(zipPath(rootDir, file), () -> Files.newInputStream(file)));
+            }
+            zipReproducibly(sources, outputFile);
+            commit(event, new File(sourceDir).getName(), sources.size(), outputFile);
+            return;
+        }
         ZipArchiveOutputStream zipOutputStream = new ZipArchiveOutputStream(new FileOutputStream(outputFile));
-        compressDirectoryToZipfile(sourceDir, sourceDir, zipOutputStream);
+        int entries = compressDirectoryToZipfile(sourceDir, sourceDir, zipOutputStream);
         IOUtils.closeQuietly(zipOutputStream);
+        commit(event, new File(sourceDir).getName(), entries, outputFile);
+    }
+
+    @Override
+    public void zip(ProjectTree projectTree, String directory, String outputFile) throws IOException {
+        ZipEvent event = new ZipEvent();
+        event.begin();
+        String prefix = ProjectTree.resolve(directory, "");
+        List<ZipSource> sources = new ArrayList<>();
+        for (String path : projectTree.list(prefix)) {
+            String zipPath = prefix.isEmpty() ? path : path.substring(prefix.length() + 1);
+            if (Arrays.stream(zipPath.split("/")).noneMatch(EXCLUDED_FILES::contains)) {
+                sources.add(new ZipSource(zipPath, () -> projectTree.open(path)));
+            }
+        }
+        if (guidesConfiguration.isReproducibleZips()) {
+            zipReproducibly(sources, outputFile);
+        } else {
+            try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(new FileOutputStream(outputFile))) {
+                for (ZipSource source : sources) {
+                    ZipArchiveEntry entry = new ZipArchiveEntry(source.path());
+                    if (EXECUTABLES.contains(source.name())) {
+                        entry.setUnixMode(EXECUTABLE_MODE);
+                    }
+                    out.putArchiveEntry(entry);
+                    try (InputStream in = source.content().open()) {
+                        IOUtils.copy(in, out);
+                    }
+                    out.closeArchiveEntry();
+                }
+            }
+        }
+        commit(event, directory, sources.size(), outputFile);
+    }
+
+    private static void commit(ZipEvent event, String project, int entries, String outputFile) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.project = project;
+            event.entries = entries;
+            event.bytes = new File(outputFile).length();
+            event.commit();
+        }
+    }
+
+    /**
+     * Shuts down the executor deflating the reproducible zip entries.
+     */
+    @PreDestroy
+    void close() {
+        ExecutorService current = executor;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    /**
+     * Deflates every file into its own scatter stream, then writes the scatter streams sorted by entry name.
+     * {@link org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator} is not used because it gathers the entries per thread,
+     * thus its entry order depends on the scheduling. When the guides are generated in parallel, the entries are deflated one by one
+     * on the caller thread. Otherwise, at most {@link GuidesConfiguration#getParallelism()} entries are deflated ahead of the one being
+     * written, so that only a few deflated entries are kept in memory.
+     */
+    private void zipReproducibly(List<ZipSource> sources, String outputFile) throws IOException {
+        try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(new FileOutputStream(outputFile))) {
+            int parallelism = guidesConfiguration.getParallelism();
+            if (guidesConfiguration.isParallel() || parallelism <= 1 || sources.size() <= 1) {
+                try {
+                    for (ZipSource source : sources) {
+                        try (ScatterZipOutputStream scatter = deflate(source)) {
+                            scatter.writeTo(out);
+                        }
+                    }
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                return;
+            }
+            ExecutorService executorService = executor();
+            Deque<Future<ScatterZipOutputStream>> pending = new ArrayDeque<>(parallelism);
+            Iterator<ZipSource> iterator = sources.iterator();
+            try {
+                while (iterator.hasNext() || !pending.isEmpty()) {
+                    while (iterator.hasNext() && pending.size() < parallelism) {
+                        ZipSource source = iterator.next();
+                        pending.add(executorService.submit(() -> deflate(source)));
+                    }
+                    try (ScatterZipOutputStream scatter = pending.remove().get()) {
+                        scatter.writeTo(out);
+                    }
+                }
+            } catch (InterruptedException e) {
+                pending.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while zipping " + outputFile, e);
+            } catch (ExecutionException e) {
+                pending.forEach(future -> future.cancel(true));
+                if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                    throw uncheckedIOException.getCause();
+                }
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+    }
+
+    private ExecutorService executor() {
+        ExecutorService result = executor;
+        if (result == null) {
+            synchronized (this) {
+                result = executor;
+                if (result == null) {
+                    result = Executors.newFixedThreadPool(guidesConfiguration.getParallelism(),
+                            Thread.ofPlatform().name("guides-zip-", 0).daemon().factory());
+                    executor = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<Path> listFiles(Path rootDir) throws IOException {
+        List<Path> files = new ArrayList<>();
+        Files.walkFileTree(rootDir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return !dir.equals(rootDir) && isExcluded(dir) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (!isExcluded(file)) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        files.sort(Comparator.comparing(file -> zipPath(rootDir, file)));
+        return files;
+    }
+
+    private static boolean isExcluded(Path path) {
+        return EXCLUDED_FILES.contains(path.getFileName().toString());
+    }
+
+    private static String zipPath(Path rootDir, Path file) {
+        return rootDir.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+
+    private static ScatterZipOutputStream deflate(ZipSource source) throws IOException {
+        ZipArchiveEntry entry = new ZipArchiveEntry(source.path());
+        entry.setMethod(ZipEntry.DEFLATED);
+        entry.setTime(REPRODUCIBLE_TIME);
+        entry.setUnixMode(EXECUTABLES.contains(source.name()) ? EXECUTABLE_MODE : FILE_MODE);
+        MemoryBackingStore backingStore = new MemoryBackingStore();
+        ScatterZipOutputStream scatter = new ScatterZipOutputStream(backingStore, StreamCompressor.create(Deflater.DEFAULT_COMPRESSION, backingStore));
+        scatter.addArchiveEntry(ZipArchiveEntryRequest.createZipArchiveEntryRequest(entry, () -> {
+            try {
+                return source.content().open();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        return scatter;
+    }
+
+    /**
+     * Opens the content of a zip entry.
+     */
+    @FunctionalInterface
+    private interface ZipContent {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * A file to zip, with its path in the zip file.
+     */
+    private record ZipSource(String path, ZipContent content) {
+        String name() {
+            return path.substring(path.lastIndexOf('/') + 1);
+        }
+    }
+
+    /**
+     * Keeps the deflated bytes of an entry in memory. Guide project files are small, thus temporary files are not worth it.
+     */
+    private static final class MemoryBackingStore implements ScatterGatherBackingStore {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(bytes.toByteArray());
+        }
+
+        @Override
+        public void writeOut(byte[] data, int offset, int length) {
+            bytes.write(data, offset, length);
+        }
+
+        @Override
+        public void closeForWriting() {
+        }
+
+        @Override
+        public void close() {
+        }
     }
 }
@@ -16,16 +16,41 @@
 package io.micronaut.guides.core;
 
 import com.networknt.schema.*;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.io.ResourceLoader;
 import jakarta.inject.Singleton;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * DefaultJsonSchemaProvider is a singleton class that implements the JsonSchemaProvider interface.
  * It provides methods to retrieve JSON schemas.
+ * The guide metadata schema ships with the library, thus it is loaded from the classpath and compiled once.
  */
 @Singleton
 public class DefaultJsonSchemaProvider implements JsonSchemaProvider {
-    JsonSchemaFactory jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
+    private static final String SCHEMA_PATH = "classpath:guide-metadata.schema.json";
+
+    private final JsonSchema schema;
+
+    /**
+     * Constructs a new DefaultJsonSchemaProvider.
+     *
+     * @param resourceLoader the resource loader to load the JSON schema
+     */
+    public DefaultJsonSchemaProvider(ResourceLoader resourceLoader) {
+        JsonSchemaFactory jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
+        SchemaValidatorsConfig validatorsConfig = SchemaValidatorsConfig.builder().build();
+        try (InputStream inputStream = resourceLoader.getResourceAsStream(SCHEMA_PATH)
+                .orElseThrow(() -> new ConfigurationException("JSON schema " + SCHEMA_PATH + " not found"))) {
+            this.schema = jsonSchemaFactory.getSchema(inputStream, validatorsConfig);
+        } catch (IOException e) {
+            throw new ConfigurationException("Could not read JSON schema " + SCHEMA_PATH, e);
+        }
+        this.schema.initializeValidators();
+    }
 
     /**
      * Returns the JSON schema for the guide metadata.
@@ -35,8 +60,6 @@ public class DefaultJsonSchemaProvider implements JsonSchemaProvider {
     @Override
     @NonNull
     public JsonSchema getSchema() {
-        SchemaValidatorsConfig.Builder builder = SchemaValidatorsConfig.builder();
-        SchemaValidatorsConfig validatorsConfig = builder.build();
-        return jsonSchemaFactory.getSchema(SchemaLocation.of("https://micronaut-projects.github.io/micronaut-guides-sdk/guide-metadata.schema.json"), validatorsConfig);
+        return schema;
     }
 }
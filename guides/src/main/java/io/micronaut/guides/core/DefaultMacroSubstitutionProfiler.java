@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Singleton;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default implementation of the {@link MacroSubstitutionProfiler} interface. Invocations can be recorded concurrently.
+ */
+@Internal
+@Singleton
+class DefaultMacroSubstitutionProfiler implements MacroSubstitutionProfiler {
+    private static final String ROW_FORMAT = "%-50s %12s %12s %12s %12s %16s%n";
+
+    private final GuidesConfiguration guidesConfiguration;
+    private final Map<Class<?>, Profile> profiles = new ConcurrentHashMap<>();
+
+    DefaultMacroSubstitutionProfiler(GuidesConfiguration guidesConfiguration) {
+        this.guidesConfiguration = guidesConfiguration;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return guidesConfiguration.isMacroProfiling();
+    }
+
+    @Override
+    public void record(@NonNull Class<?> substitution, long nanos, int matches, long allocatedBytes) {
+        Profile profile = profiles.computeIfAbsent(substitution, key -> new Profile());
+        profile.invocations.increment();
+        profile.nanos.add(nanos);
+        profile.matches.add(matches);
+        if (allocatedBytes >= 0) {
+            profile.allocatedBytes.add(allocatedBytes);
+        }
+    }
+
+    @Override
+    @NonNull
+    public String report() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(ROW_FORMAT, "Substitution", "Invocations", "Total ms", "Average us", "Matches", "Allocated bytes"));
+        profiles.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Class<?>, Profile> entry) -> entry.getValue().nanos.sum()).reversed())
+                .forEach(entry -> {
+                    Profile profile = entry.getValue();
+                    long invocations = profile.invocations.sum();
+                    long nanos = profile.nanos.sum();
+                    table.append(String.format(ROW_FORMAT,
+                            entry.getKey().getSimpleName(),
+                            invocations,
+                            TimeUnit.NANOSECONDS.toMillis(nanos),
+                            invocations == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(nanos / invocations),
+                            profile.matches.sum(),
+                            profile.allocatedBytes.sum()));
+                });
+        return table.toString();
+    }
+
+    @Override
+    public void reset() {
+        profiles.clear();
+    }
+
+    private static final class Profile {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder matches = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+    }
+}
@@ -18,10 +18,12 @@ package io.micronaut.guides.core;
 import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
-import io.micronaut.guides.core.asciidoc.AsciidocConverter;
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import io.micronaut.guides.core.html.GuideMatrixGenerator;
-import io.micronaut.guides.core.html.GuidePageGenerator;
 import io.micronaut.guides.core.html.IndexGenerator;
+import io.micronaut.guides.core.jfr.GuideGenerationEvent;
+import io.micronaut.guides.core.jfr.GuideOptionRenderEvent;
+import io.micronaut.json.JsonMapper;
 import jakarta.inject.Singleton;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
@@ -29,15 +31,32 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * Default implementation of the {@link WebsiteGenerator} interface.
  * This class is responsible for generating a website from the specified input directory to the specified output directory.
+ * Guides and guide options are generated concurrently when {@link GuidesConfiguration#isParallel()} is enabled, and guides whose
+ * inputs did not change since the previous build are skipped when {@link GuidesConfiguration#isIncremental()} is enabled.
  */
 @Internal
 @Singleton
@@ -53,15 +72,18 @@ class DefaultWebsiteGenerator implements WebsiteGenerator {
     private final RssFeedGenerator rssFeedGenerator;
     private final FilesTransferUtility filesTransferUtility;
     private final TestScriptGenerator testScriptGenerator;
-    private final MacroSubstitution macroSubstitution;
-    private final AsciidocConverter asciidocConverter;
+    private final GuideOptionRenderer guideOptionRenderer;
     private final IndexGenerator indexGenerator;
     private final GuideMatrixGenerator guideMatrixGenerator;
     private final GuideProjectZipper guideProjectZipper;
     private final RssFeedConfiguration rssFeedConfiguration;
     private final JsonFeedConfiguration jsonFeedConfiguration;
     private final GuidesConfiguration guidesConfiguration;
-    private final GuidePageGenerator guidePageGenerator;
+    private final GuideInputHasher guideInputHasher;
+    private final JsonMapper jsonMapper;
+    private final BuildMetrics buildMetrics;
+    private final LongAdder linkedBytes = new LongAdder();
+    private final Map<String, String> sharedInputsHashes = new ConcurrentHashMap<>();
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     DefaultWebsiteGenerator(GuideParser guideParser,
@@ -70,33 +92,58 @@ class DefaultWebsiteGenerator implements WebsiteGenerator {
                             RssFeedGenerator rssFeedGenerator,
                             FilesTransferUtility filesTransferUtility,
                             TestScriptGenerator testScriptGenerator,
-                            MacroSubstitution macroSubstitution,
-                            AsciidocConverter asciidocConverter,
+                            GuideOptionRenderer guideOptionRenderer,
                             IndexGenerator indexGenerator,
                             GuideMatrixGenerator guideMatrixGenerator,
                             GuideProjectZipper guideProjectZipper,
                             RssFeedConfiguration rssFeedConfiguration,
                             JsonFeedConfiguration jsonFeedConfiguration,
-                            GuidesConfiguration guidesConfiguration, GuidePageGenerator guidePageGenerator) {
+                            GuidesConfiguration guidesConfiguration,
+                            GuideInputHasher guideInputHasher,
+                            JsonMapper jsonMapper,
+                            BuildMetrics buildMetrics) {
         this.guideParser = guideParser;
         this.guideProjectGenerator = guideProjectGenerator;
         this.jsonFeedGenerator = jsonFeedGenerator;
         this.rssFeedGenerator = rssFeedGenerator;
         this.filesTransferUtility = filesTransferUtility;
         this.testScriptGenerator = testScriptGenerator;
-        this.macroSubstitution = macroSubstitution;
-        this.asciidocConverter = asciidocConverter;
+        this.guideOptionRenderer = guideOptionRenderer;
         this.indexGenerator = indexGenerator;
         this.guideMatrixGenerator = guideMatrixGenerator;
         this.guideProjectZipper = guideProjectZipper;
         this.rssFeedConfiguration = rssFeedConfiguration;
         this.jsonFeedConfiguration = jsonFeedConfiguration;
         this.guidesConfiguration = guidesConfiguration;
-        this.guidePageGenerator = guidePageGenerator;
+        this.guideInputHasher = guideInputHasher;
+        this.jsonMapper = jsonMapper;
+        this.buildMetrics = buildMetrics;
     }
 
     @Override
     public void generate(@NonNull @NotNull File inputDirectory, @NonNull @NotNull File outputDirectory) throws IOException {
+        generate(inputDirectory, outputDirectory, guidesConfiguration.isIncremental(), null);
+    }
+
+    @Override
+    public void regenerate(@NonNull @NotNull File inputDirectory, @NonNull @NotNull File outputDirectory) throws IOException {
+        generate(inputDirectory, outputDirectory, true, null);
+    }
+
+    @Override
+    public void regenerate(@NonNull @NotNull File inputDirectory,
+                           @NonNull @NotNull File outputDirectory,
+                           @NonNull @NotNull Set<String> slugs) throws IOException {
+        generate(inputDirectory, outputDirectory, true, slugs);
+    }
+
+    /**
+     * The build manifest of the previous build is deleted when the build starts, and a guide is only recorded in the new manifest once
+     * all its options are generated. The new manifest is saved even if the build fails.
+     *
+     * @param changedSlugs the slugs of the guides whose directory changed, or null to check the inputs of every guide
+     */
+    private void generate(File inputDirectory, File outputDirectory, boolean incremental, Set<String> changedSlugs) throws IOException {
         File guidesInputDirectory = new File(inputDirectory, guidesConfiguration.getGuidesDir());
         if (!guidesInputDirectory.exists()) {
             throw new ConfigurationException("Guides directory " + guidesInputDirectory.getAbsolutePath() + " not found");
@@ -104,111 +151,284 @@ class DefaultWebsiteGenerator implements WebsiteGenerator {
         if (!guidesInputDirectory.isDirectory()) {
             throw new ConfigurationException("Guides path " + guidesInputDirectory.getAbsolutePath() + " is not a directory");
         }
+        buildMetrics.reset();
+        long start = System.nanoTime();
         List<? extends Guide> guides = guideParser.parseGuidesMetadata(guidesInputDirectory);
-        for (Guide guide : guides) {
-            File guideOutput = new File(outputDirectory, guide.getSlug());
-            guideOutput.mkdir();
-            guideProjectGenerator.generate(guideOutput, guide);
-            File guideInputDirectory = new File(guidesInputDirectory, guide.getSlug());
-            filesTransferUtility.transferFiles(guideInputDirectory, guideOutput, guide);
-
-            // Test script generation
-            String testScript = testScriptGenerator.generateTestScript(new ArrayList<>(List.of(guide)));
-            saveToFile(testScript, guideOutput, FILENAME_TEST_SH);
-
-            // Native Test script generation
-            String nativeTestScript = testScriptGenerator.generateNativeTestScript(new ArrayList<>(List.of(guide)));
-            saveToFile(nativeTestScript, guideOutput, FILENAME_NATIVE_TEST_SH);
-
-            File asciidocFile = new File(guideInputDirectory, guide.getSlug() + ".adoc");
-            if (!asciidocFile.exists()) {
-                throw new ConfigurationException("asciidoc file not found for " + guide.getSlug());
+        buildMetrics.record(BuildStage.PARSE, null, null, start);
+        linkedBytes.reset();
+        BuildManifest buildManifest = BuildManifest.load(jsonMapper, outputDirectory);
+        try {
+            Map<String, String> hashes = new HashMap<>();
+            List<? extends Guide> guidesToGenerate = selectGuides(buildManifest, guides, hashes, incremental, changedSlugs,
+                    inputDirectory, guidesInputDirectory, outputDirectory);
+            Consumer<Guide> generated = guide -> buildManifest.put(guide.getSlug(), hashes.get(guide.getSlug()));
+            if (guidesConfiguration.isParallel() && guidesConfiguration.getParallelism() > 1) {
+                generateInParallel(guidesToGenerate, inputDirectory, guidesInputDirectory, outputDirectory, generated);
+            } else {
+                for (Guide guide : guidesToGenerate) {
+                    AsciidocDocument document = generateGuide(guide, guidesInputDirectory, outputDirectory);
+                    for (GuidesOption guidesOption : GuideGenerationUtils.guidesOptions(guide, LOG)) {
+                        generateGuideOption(guide, guidesOption, document, inputDirectory, outputDirectory);
+                    }
+                    generated.accept(guide);
+                }
             }
 
-            List<GuidesOption> guideOptions = GuideGenerationUtils.guidesOptions(guide, LOG);
-            String asciidoc = readFile(asciidocFile);
-            for (GuidesOption guidesOption : guideOptions) {
-                String name = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
+            start = System.nanoTime();
+            String indexHtml = indexGenerator.renderIndex(guides);
+            saveToFile(indexHtml, outputDirectory, FILENAME_INDEX_HTML);
+            buildMetrics.record(BuildStage.PAGE_RENDER, null, null, start);
 
-                // Zip creation
-                File zipFile = new File(outputDirectory, name + ".zip");
-                File folderFile = new File(guideOutput, name);
-                guideProjectZipper.zipDirectory(folderFile.getAbsolutePath(), zipFile.getAbsolutePath());
+            start = System.nanoTime();
+            String rss = rssFeedGenerator.rssFeed(guides);
+            saveToFile(rss, outputDirectory, rssFeedConfiguration.getFilename());
 
-                // Macro substitution
-                String optionAsciidoc = macroSubstitution.substitute(asciidoc, guide, guidesOption);
+            String json = jsonFeedGenerator.jsonFeedString(guides);
+            saveToFile(json, outputDirectory, jsonFeedConfiguration.getFilename());
+            buildMetrics.record(BuildStage.FEEDS, null, null, start);
+        } finally {
+            guideProjectGenerator.clearCache();
+            buildManifest.save(jsonMapper);
+        }
+        if (guidesConfiguration.isLinkFiles()) {
+            LOG.info("Linked {} bytes of guide sources instead of copying them", linkedBytes.sum());
+        }
+        if (guidesConfiguration.isBuildReport()) {
+            buildMetrics.writeReport(jsonMapper, outputDirectory);
+            LOG.info("Build report written to {}", new File(outputDirectory, BuildMetrics.FILENAME_HTML).getAbsolutePath());
+        }
+    }
 
-                // HTML rendering
+    /**
+     * Hashes the inputs of the guides and returns the guides to generate. In an incremental build, guides whose inputs did not change
+     * since the previous build, and whose generated files exist, are skipped and their hashes carried over to the build manifest.
+     * If the changed guides are known, the other guides are not hashed again: their previous hashes are carried over, and the
+     * hash of the shared inputs computed by the previous build is reused.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private List<? extends Guide> selectGuides(BuildManifest buildManifest,
+                                               List<? extends Guide> guides,
+                                               Map<String, String> hashes,
+                                               boolean incremental,
+                                               Set<String> changedSlugs,
+                                               File inputDirectory,
+                                               File guidesInputDirectory,
+                                               File outputDirectory) throws IOException {
+        String sharedInputsHash = sharedInputsHash(inputDirectory, guidesInputDirectory, outputDirectory, changedSlugs == null);
+        List<Guide> result = new ArrayList<>();
+        for (Guide guide : guides) {
+            String slug = guide.getSlug();
+            if (changedSlugs != null && !changedSlugs.contains(slug) && (guide.getBase() == null || !changedSlugs.contains(guide.getBase()))) {
+                String previousHash = buildManifest.getPreviousHash(slug);
+                if (previousHash != null && isGenerated(guide, outputDirectory)) {
+                    buildManifest.put(slug, previousHash);
+                    continue;
+                }
+            }
+            String hash = guideInputHasher.hashGuide(sharedInputsHash, guide, guidesInputDirectory);
+            hashes.put(slug, hash);
+            if (incremental && buildManifest.isUpToDate(slug, hash) && isGenerated(guide, outputDirectory)) {
+                LOG.debug("Skipping guide {}, inputs unchanged since the previous build", slug);
+                buildManifest.put(slug, hash);
+            } else {
+                result.add(guide);
+            }
+        }
+        return result;
+    }
 
-                String optionHtml = asciidocConverter.convert(optionAsciidoc, inputDirectory, outputDirectory.getAbsolutePath(), new File(guideOutput, name).getAbsolutePath());
+    /**
+     * Returns the hash of the shared inputs, computed again unless it is cached for the input directory and a refresh is not required.
+     */
+    private String sharedInputsHash(File inputDirectory, File guidesInputDirectory, File outputDirectory, boolean refresh) throws IOException {
+        String key = inputDirectory.getAbsolutePath();
+        String hash = refresh ? null : sharedInputsHashes.get(key);
+        if (hash == null) {
+            hash = guideInputHasher.hashSharedInputs(inputDirectory, guidesInputDirectory, outputDirectory);
+            sharedInputsHashes.put(key, hash);
+        }
+        return hash;
+    }
 
-                String tocHtml = extractToc(optionHtml);
+    private boolean isGenerated(Guide guide, File outputDirectory) {
+        if (!new File(outputDirectory, guide.getSlug() + ".html").exists()) {
+            return false;
+        }
+        for (GuidesOption guidesOption : GuideGenerationUtils.guidesOptions(guide, LOG)) {
+            String name = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
+            if (!new File(outputDirectory, name + ".zip").exists() || !new File(outputDirectory, name + ".html").exists()) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-                String guideOptionHtmlFileName = name + ".html";
-                optionHtml = optionHtml.replace(tocHtml + "\n", "");
-                optionHtml = guidePageGenerator.render(tocHtml, optionHtml);
-                optionHtml = optionHtml.replace("{title}", guide.getTitle());
-                optionHtml = optionHtml.replace("{section}", guide.getCategories().get(0));
-                optionHtml = optionHtml.replace("{section-link}", "https://graal.cloud/gdk/docs/gdk-modules/" + guide.getCategories().get(0).toLowerCase() + "/");
-                saveToFile(optionHtml, outputDirectory, guideOptionHtmlFileName);
+    /**
+     * Generates the guides in two phases. First, the projects, zips, test scripts and matrix of every guide are generated concurrently.
+     * Then, the HTML page of every guide option is generated concurrently. Every task writes to its own files, thus the
+     * output is identical to the sequential generation. A guide is passed to the consumer once all its options are generated.
+     */
+    private void generateInParallel(List<? extends Guide> guides,
+                                    File inputDirectory,
+                                    File guidesInputDirectory,
+                                    File outputDirectory,
+                                    Consumer<Guide> generated) throws IOException {
+        try (ExecutorService executor = Executors.newFixedThreadPool(guidesConfiguration.getParallelism())) {
+            List<Callable<AsciidocDocument>> guideTasks = new ArrayList<>();
+            for (Guide guide : guides) {
+                guideTasks.add(() -> generateGuide(guide, guidesInputDirectory, outputDirectory));
             }
+            List<AsciidocDocument> documents = invokeAll(executor, guideTasks);
 
-            String guideMatrixHtml = guideMatrixGenerator.renderIndex(guide);
-            saveToFile(guideMatrixHtml, outputDirectory, guide.getSlug() + ".html");
+            List<Callable<Void>> optionTasks = new ArrayList<>();
+            for (int i = 0; i < guides.size(); i++) {
+                Guide guide = guides.get(i);
+                AsciidocDocument document = documents.get(i);
+                List<GuidesOption> guidesOptions = GuideGenerationUtils.guidesOptions(guide, LOG);
+                if (guidesOptions.isEmpty()) {
+                    generated.accept(guide);
+                }
+                AtomicInteger remainingOptions = new AtomicInteger(guidesOptions.size());
+                for (GuidesOption guidesOption : guidesOptions) {
+                    optionTasks.add(() -> {
+                        generateGuideOption(guide, guidesOption, document, inputDirectory, outputDirectory);
+                        if (remainingOptions.decrementAndGet() == 0) {
+                            generated.accept(guide);
+                        }
+                        return null;
+                    });
+                }
+            }
+            invokeAll(executor, optionTasks);
         }
+    }
 
-        String indexHtml = indexGenerator.renderIndex(guides);
-        saveToFile(indexHtml, outputDirectory, FILENAME_INDEX_HTML);
+    private static <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> tasks) throws IOException {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating guides", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+        return results;
+    }
 
-        String rss = rssFeedGenerator.rssFeed(guides);
-        saveToFile(rss, outputDirectory, rssFeedConfiguration.getFilename());
+    /**
+     * Generates the projects, zips, test scripts and matrix page of a guide.
+     * The projects are generated, completed with the guide sources and zipped in memory, and written to disk once.
+     * The project directories mirror the tree: identical files are not rewritten, and files left by a previous build are deleted.
+     * The guide asciidoc is lexed once, the macros and groups it contains are parsed at most once and shared by every guide option.
+     *
+     * @return the lexed guide asciidoc
+     */
+    private AsciidocDocument generateGuide(Guide guide, File guidesInputDirectory, File outputDirectory) throws IOException {
+        GuideGenerationEvent event = new GuideGenerationEvent();
+        event.begin();
+        File guideOutput = new File(outputDirectory, guide.getSlug());
+        guideOutput.mkdir();
+        ProjectTree projectTree = new ProjectTree();
+        long start = System.nanoTime();
+        guideProjectGenerator.generate(projectTree, guide);
+        buildMetrics.record(BuildStage.PROJECT_GENERATION, guide, null, start);
 
-        String json = jsonFeedGenerator.jsonFeedString(guides);
-        saveToFile(json, outputDirectory, jsonFeedConfiguration.getFilename());
-    }
+        start = System.nanoTime();
+        File guideInputDirectory = new File(guidesInputDirectory, guide.getSlug());
+        filesTransferUtility.transferFiles(guideInputDirectory, projectTree, guide);
+        linkedBytes.add(projectTree.flush(guideOutput.toPath(), guidesConfiguration.isLinkFiles()));
+        buildMetrics.record(BuildStage.FILE_TRANSFER, guide, null, start);
 
-    private String extractToc(String html) {
-        String openDivPattern = "<div";
-        String closeDivPattern = "</div>";
-        String idAttribute = "id=\"toc\"";
+        // Stale files removal and zip creation
+        for (GuidesOption guidesOption : GuideGenerationUtils.guidesOptions(guide, LOG)) {
+            String name = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
+            start = System.nanoTime();
+            projectTree.prune(guideOutput.toPath(), name);
+            buildMetrics.record(BuildStage.FILE_TRANSFER, guide, guidesOption, start);
 
-        int startIndex = html.indexOf(openDivPattern + " " + idAttribute);
-        if (startIndex == -1) {
-            startIndex = html.indexOf(openDivPattern + " id='toc'");
-            if (startIndex == -1) {
-                return null;
-            }
+            start = System.nanoTime();
+            File zipFile = new File(outputDirectory, name + ".zip");
+            guideProjectZipper.zip(projectTree, name, zipFile.getAbsolutePath());
+            buildMetrics.record(BuildStage.ZIP, guide, guidesOption, start);
         }
 
-        int openingTagEnd = html.indexOf(">", startIndex);
-        if (openingTagEnd == -1) {
-            return null;
-        }
+        // Test script generation
+        start = System.nanoTime();
+        String testScript = testScriptGenerator.generateTestScript(new ArrayList<>(List.of(guide)));
+        saveToFile(testScript, guideOutput, FILENAME_TEST_SH);
 
-        int nestedDivCount = 0;
-        int currentIndex = openingTagEnd + 1;
+        // Native Test script generation
+        String nativeTestScript = testScriptGenerator.generateNativeTestScript(new ArrayList<>(List.of(guide)));
+        saveToFile(nativeTestScript, guideOutput, FILENAME_NATIVE_TEST_SH);
+        buildMetrics.record(BuildStage.TEST_SCRIPTS, guide, null, start);
 
-        while (currentIndex < html.length()) {
-            int nextOpenDiv = html.indexOf(openDivPattern, currentIndex);
-            int nextCloseDiv = html.indexOf(closeDivPattern, currentIndex);
+        File asciidocFile = new File(guideInputDirectory, guide.getSlug() + ".adoc");
+        if (!asciidocFile.exists()) {
+            throw new ConfigurationException("asciidoc file not found for " + guide.getSlug());
+        }
+        start = System.nanoTime();
+        AsciidocDocument document = AsciidocDocument.parse(readFile(asciidocFile));
+        buildMetrics.record(BuildStage.PARSE, guide, null, start);
 
-            if (nextCloseDiv == -1) {
-                return null;
-            }
+        start = System.nanoTime();
+        String guideMatrixHtml = guideMatrixGenerator.renderIndex(guide);
+        saveToFile(guideMatrixHtml, outputDirectory, guide.getSlug() + ".html");
+        buildMetrics.record(BuildStage.PAGE_RENDER, guide, null, start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.slug = guide.getSlug();
+            event.commit();
+        }
+        return document;
+    }
 
-            if (nextOpenDiv != -1 && nextOpenDiv < nextCloseDiv) {
-                nestedDivCount++;
-                currentIndex = nextOpenDiv + openDivPattern.length();
-            } else {
-                if (nestedDivCount == 0) {
-                    return html.substring(startIndex, nextCloseDiv + closeDivPattern.length());
-                }
-                nestedDivCount--;
-                currentIndex = nextCloseDiv + closeDivPattern.length();
+    /**
+     * Generates the HTML page of a guide option.
+     */
+    private void generateGuideOption(Guide guide,
+                                     GuidesOption guidesOption,
+                                     AsciidocDocument document,
+                                     File inputDirectory,
+                                     File outputDirectory) throws IOException {
+        GuideOptionRenderEvent event = new GuideOptionRenderEvent();
+        event.begin();
+        String name = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
+
+        // HTML rendering, into a temporary file so a failed rendering never leaves a truncated page which looks up to date
+        Path guideOptionHtmlFile = Paths.get(outputDirectory.getAbsolutePath(), name + ".html");
+        Path temporaryFile = Files.createTempFile(outputDirectory.toPath(), name, ".html.tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                guideOptionRenderer.render(guide, guidesOption, document, inputDirectory, outputDirectory, writer);
             }
+            Files.move(temporaryFile, guideOptionHtmlFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.slug = guide.getSlug();
+            event.buildTool = guidesOption.getBuildTool().toString();
+            event.language = guidesOption.getLanguage().toString();
+            event.bytes = Files.size(guideOptionHtmlFile);
+            event.commit();
         }
-
-        return null;
     }
 
     private void saveToFile(String content, File outputDirectory, String filename) throws IOException {
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Singleton;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Default implementation of the {@link WebsiteWatcher} interface.
+ * It watches every directory of the input directory, except the output directory, with a {@link WatchService}.
+ * Events are collected until the file system is quiet for a short period, so saving several files triggers a single
+ * notification and a single regeneration. When only guide directories changed, their slugs are passed to
+ * {@link WebsiteGenerator#regenerate(File, File, Set)}, which only hashes and regenerates those guides. Any other change, e.g. of a
+ * common include, calls {@link WebsiteGenerator#regenerate(File, File)}, which checks every guide.
+ * The application context, and thus the Asciidoctor instances, stay warm between regenerations.
+ */
+@Internal
+@Singleton
+class DefaultWebsiteWatcher implements WebsiteWatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultWebsiteWatcher.class);
+    private static final long QUIET_PERIOD_MILLIS = 100;
+
+    private final WebsiteGenerator websiteGenerator;
+    private final GuidesConfiguration guidesConfiguration;
+
+    DefaultWebsiteWatcher(WebsiteGenerator websiteGenerator, GuidesConfiguration guidesConfiguration) {
+        this.websiteGenerator = websiteGenerator;
+        this.guidesConfiguration = guidesConfiguration;
+    }
+
+    @Override
+    public void watch(@NonNull @NotNull File inputDirectory,
+                      @NonNull @NotNull File outputDirectory,
+                      @NonNull @NotNull Runnable afterRegeneration) throws IOException {
+        Path guidesDirectory = new File(inputDirectory, guidesConfiguration.getGuidesDir()).toPath().toAbsolutePath().normalize();
+        watch(inputDirectory, outputDirectory,
+                () -> regenerate(inputDirectory, outputDirectory, null, afterRegeneration),
+                changes -> regenerate(inputDirectory, outputDirectory, changedGuides(guidesDirectory, changes), afterRegeneration));
+    }
+
+    @Override
+    public void watch(@NonNull @NotNull File inputDirectory,
+                      @NonNull @NotNull File excludedDirectory,
+                      @NonNull @NotNull Consumer<Set<Path>> listener) throws IOException {
+        watch(inputDirectory, excludedDirectory, () -> { }, listener);
+    }
+
+    private void watch(File inputDirectory, File excludedDirectory, Runnable onStart, Consumer<Set<Path>> listener) throws IOException {
+        Path input = inputDirectory.toPath().toAbsolutePath().normalize();
+        Path excluded = excludedDirectory.toPath().toAbsolutePath().normalize();
+        try (WatchService watchService = input.getFileSystem().newWatchService()) {
+            register(watchService, input, excluded);
+            onStart.run();
+            LOG.info("Watching {} for changes", input);
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<Path> changes = new TreeSet<>();
+                WatchKey key = watchService.take();
+                while (key != null) {
+                    collectChanges(watchService, key, excluded, changes);
+                    key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (!changes.isEmpty()) {
+                    LOG.info("Changes detected in {}", changes);
+                    listener.accept(changes);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            LOG.debug("Stopped watching {}", input);
+        }
+    }
+
+    /**
+     * Returns the slugs of the guides whose directory contains the changed paths, or null if a path outside the guide directories changed.
+     */
+    private static Set<String> changedGuides(Path guidesDirectory, Set<Path> changes) {
+        Set<String> slugs = new HashSet<>();
+        for (Path path : changes) {
+            if (!path.startsWith(guidesDirectory) || path.equals(guidesDirectory)) {
+                return null;
+            }
+            slugs.add(guidesDirectory.relativize(path).getName(0).toString());
+        }
+        return slugs;
+    }
+
+    private void regenerate(File inputDirectory, File outputDirectory, Set<String> slugs, Runnable afterRegeneration) {
+        long start = System.nanoTime();
+        try {
+            if (slugs == null) {
+                websiteGenerator.regenerate(inputDirectory, outputDirectory);
+            } else {
+                websiteGenerator.regenerate(inputDirectory, outputDirectory, slugs);
+            }
+            LOG.info("Website generated in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException | RuntimeException e) {
+            // keep watching, the next change may fix the error
+            LOG.error("Error generating the website: {}", e.getMessage(), e);
+        } finally {
+            afterRegeneration.run();
+        }
+    }
+
+    private static void collectChanges(WatchService watchService, WatchKey key, Path excluded, Set<Path> changes) throws IOException {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                changes.add(directory);
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            if (path.startsWith(excluded)) {
+                continue;
+            }
+            changes.add(path);
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                register(watchService, path, excluded);
+            }
+        }
+        key.reset();
+    }
+
+    private static void register(WatchService watchService, Path root, Path excluded) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (dir.startsWith(excluded)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -15,18 +15,17 @@
  */
 package io.micronaut.guides.core;
 
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import jakarta.inject.Singleton;
 
-import java.util.List;
-
-import static io.micronaut.guides.core.MacroUtils.findMacroGroups;
-import static io.micronaut.guides.core.MacroUtils.findMacroLines;
-
 /**
  * Class that provides macro substitution functionality for dependency placeholders in guide templates.
  */
 @Singleton
 public class DependencyMacroSubstitution implements MacroSubstitution {
+    private static final String MACRO_DEPENDENCIES = "dependencies";
+    private static final String MACRO_DEPENDENCY = "dependency";
+    private static final String LINE_BREAK = "\n";
 
     /**
      * Substitutes dependency placeholders in the given string with Asciidoc formatted dependency lines.
@@ -38,15 +37,24 @@ public class DependencyMacroSubstitution implements MacroSubstitution {
      */
     @Override
     public String substitute(String str, Guide guide, GuidesOption option) {
-        for (String block : findMacroGroups(str, "dependencies")) {
-            List<String> lines = DependencyLines.asciidoc(block.replace(":dependencies:", "").strip().lines().toList(), option.getBuildTool(), option.getLanguage());
-            str = str.replace(block, String.join("\n", lines));
-        }
-        for (String line : findMacroLines(str, "dependency")) {
-            List<String> lines = DependencyLines.asciidoc(line, option.getBuildTool(), option.getLanguage());
-            str = str.replace(line, String.join("\n", lines));
-        }
-        return str;
+        AsciidocDocument document = AsciidocDocument.parse(str);
+        substitute(document, guide, option);
+        return document.toString();
+    }
+
+    /**
+     * Substitutes the dependency blocks and lines of the given document with Asciidoc formatted dependency lines.
+     *
+     * @param document the document containing dependency placeholders
+     * @param guide    the guide metadata
+     * @param option   the guide option
+     */
+    @Override
+    public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
+        document.replaceBlocks(MACRO_DEPENDENCIES, block -> String.join(LINE_BREAK,
+                DependencyLines.asciidoc(String.join(LINE_BREAK, block).strip().lines().toList(), option.getBuildTool(), option.getLanguage())));
+        document.replaceMacros(MACRO_DEPENDENCY, node -> String.join(LINE_BREAK,
+                DependencyLines.asciidoc(node.getText(), option.getBuildTool(), option.getLanguage())));
     }
 
     @Override
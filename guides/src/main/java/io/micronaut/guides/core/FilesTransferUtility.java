@@ -35,4 +35,14 @@ public interface FilesTransferUtility {
      * @throws IOException if an I/O error occurs during the file transfer
      */
     void transferFiles(@NotNull @NonNull File inputDirectory, @NotNull @NonNull File outputDirectory, @NotNull @NonNull Guide guide) throws IOException;
+
+    /**
+     * Transfers files from the specified input directory into the specified project tree based on the provided guide.
+     *
+     * @param inputDirectory the directory containing the files to be transferred
+     * @param projectTree    the tree where the files will be transferred to
+     * @param guide          the guide containing the transfer instructions
+     * @throws IOException if an I/O error occurs during the file transfer
+     */
+    void transferFiles(@NotNull @NonNull File inputDirectory, @NotNull @NonNull ProjectTree projectTree, @NotNull @NonNull Guide guide) throws IOException;
 }
@@ -33,6 +33,7 @@ import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static io.micronaut.guides.core.GuideMerger.mergeWithBase;
 import static io.micronaut.guides.core.GuideUtils.FEATURES_PREFIXES;
 import static io.micronaut.guides.core.GuideUtils.addAllSafe;
 
@@ -536,6 +537,37 @@ public class Guide {
         this.apps = apps;
     }
 
+    /**
+     * Merges the metadata of a base guide into this guide. Lists are merged with the base lists and
+     * properties not set in this guide are inherited from the base guide. Applications are merged by
+     * {@link GuideMerger}. Subclasses declaring additional properties should override this method and
+     * call {@code super.mergeBase(base)}.
+     *
+     * @param base The base guide.
+     */
+    protected void mergeBase(@NonNull Guide base) {
+        title = title != null ? title : base.title;
+        intro = intro != null ? intro : base.intro;
+        authors = mergeWithBase(base.authors, authors);
+        categories = mergeWithBase(base.categories, categories);
+        publicationDate = publicationDate != null ? publicationDate : base.publicationDate;
+        minimumJavaVersion = minimumJavaVersion != null ? minimumJavaVersion : base.minimumJavaVersion;
+        maximumJavaVersion = maximumJavaVersion != null ? maximumJavaVersion : base.maximumJavaVersion;
+        cloud = cloud != null ? cloud : base.cloud;
+        skipGradleTests = skipGradleTests != null ? skipGradleTests : base.skipGradleTests;
+        skipMavenTests = skipMavenTests != null ? skipMavenTests : base.skipMavenTests;
+        asciidoctor = asciidoctor != null ? asciidoctor : base.asciidoctor;
+        languages = mergeWithBase(base.languages, languages);
+        tags = mergeWithBase(base.tags, tags);
+        buildTools = mergeWithBase(base.buildTools, buildTools);
+        testFramework = testFramework != null ? testFramework : base.testFramework;
+        zipIncludes = mergeWithBase(base.zipIncludes, zipIncludes);
+        slug = slug != null ? slug : base.slug;
+        publish = publish != null ? publish : base.publish;
+        this.base = this.base != null ? this.base : base.base;
+        env = env != null ? env : base.env;
+    }
+
     /**
      * Determines if a guide should skip tests based on the build tool.
      *
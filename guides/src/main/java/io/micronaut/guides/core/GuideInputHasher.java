@@ -0,0 +1,209 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.io.ResourceLoader;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.starter.build.dependencies.Coordinate;
+import io.micronaut.starter.util.VersionInfo;
+import jakarta.inject.Singleton;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Computes content hashes of the inputs used to generate a guide. A guide must be regenerated when its hash changes.
+ * Outside the guide directories, hidden directories, e.g. {@code .git} or {@code .gradle}, and build output directories are not inputs
+ * and are not hashed, so that a commit or a Gradle run does not invalidate every guide.
+ */
+@Internal
+@Singleton
+class GuideInputHasher {
+    private static final String ALGORITHM = "SHA-256";
+    private static final List<String> TEMPLATES = List.of("guide.html", "guides.html", "index-item.html");
+    private static final Set<String> EXCLUDED_DIRECTORY_NAMES = Set.of("build", "target", "out", "bin", "node_modules");
+
+    private final GuidesConfiguration guidesConfiguration;
+    private final GuidesTemplatesConfiguration guidesTemplatesConfiguration;
+    private final ResourceLoader resourceLoader;
+    private final JsonMapper jsonMapper;
+    private final CoordinatesProvider coordinatesProvider;
+
+    GuideInputHasher(GuidesConfiguration guidesConfiguration,
+                     GuidesTemplatesConfiguration guidesTemplatesConfiguration,
+                     ResourceLoader resourceLoader,
+                     JsonMapper jsonMapper,
+                     CoordinatesProvider coordinatesProvider) {
+        this.guidesConfiguration = guidesConfiguration;
+        this.guidesTemplatesConfiguration = guidesTemplatesConfiguration;
+        this.resourceLoader = resourceLoader;
+        this.jsonMapper = jsonMapper;
+        this.coordinatesProvider = coordinatesProvider;
+    }
+
+    /**
+     * Hashes the inputs shared by every guide: the guides configuration, the Micronaut, Starter and dependency versions, the templates
+     * and the files of the input directory which are not part of a guide (e.g. common asciidoc includes and callouts).
+     *
+     * @param inputDirectory       the website input directory
+     * @param guidesInputDirectory the guides directory, excluded from the hash
+     * @param outputDirectory      the output directory, excluded from the hash
+     * @return the hash of the shared inputs
+     * @throws IOException if an I/O error occurs while reading the inputs
+     */
+    @NonNull
+    String hashSharedInputs(@NonNull File inputDirectory,
+                            @NonNull File guidesInputDirectory,
+                            @NonNull File outputDirectory) throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, configurationFingerprint());
+        for (String template : TEMPLATES) {
+            Optional<InputStream> inputStreamOptional = resourceLoader.getResourceAsStream("classpath:" + guidesTemplatesConfiguration.getFolder() + "/" + template);
+            if (inputStreamOptional.isPresent()) {
+                try (InputStream inputStream = inputStreamOptional.get()) {
+                    update(digest, template);
+                    digest.update(inputStream.readAllBytes());
+                }
+            }
+        }
+        updateDirectory(digest, inputDirectory.toPath(), List.of(guidesInputDirectory.toPath(), outputDirectory.toPath()), true);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Hashes the inputs of a guide: the shared inputs, the merged guide metadata and the files of the guide directory and of its base guide directory.
+     *
+     * @param sharedInputsHash     the hash of the shared inputs
+     * @param guide                the guide
+     * @param guidesInputDirectory the guides directory
+     * @return the hash of the guide inputs
+     * @throws IOException if an I/O error occurs while reading the inputs
+     */
+    @NonNull
+    String hashGuide(@NonNull String sharedInputsHash,
+                     @NonNull Guide guide,
+                     @NonNull File guidesInputDirectory) throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, sharedInputsHash);
+        digest.update(jsonMapper.writeValueAsBytes(guide));
+        updateDirectory(digest, new File(guidesInputDirectory, guide.getSlug()).toPath(), List.of(), false);
+        if (guide.getBase() != null) {
+            updateDirectory(digest, new File(guidesInputDirectory, guide.getBase()).toPath(), List.of(), false);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String configurationFingerprint() {
+        return String.join("\n",
+                guidesConfiguration.getGuidesDir(),
+                guidesConfiguration.getHomePageUrl(),
+                guidesConfiguration.getTitle(),
+                guidesConfiguration.getLicensePath(),
+                guidesConfiguration.getPackageName(),
+                guidesConfiguration.getDefaultAppName(),
+                guidesConfiguration.getProjectGeneratorUrl(),
+                String.valueOf(guidesConfiguration.getDefaultMinJdk()),
+                guidesConfiguration.getApiUrl(),
+                guidesConfiguration.getVersion(),
+                String.valueOf(guidesConfiguration.getFilesWithHeader()),
+                String.valueOf(guidesConfiguration.getDefaultJdkVersion()),
+                String.valueOf(guidesConfiguration.getJdkVersionsSupportedByGraalvm()),
+                String.valueOf(GuideGenerationUtils.resolveJdkVersion(guidesConfiguration)),
+                guidesTemplatesConfiguration.getFolder(),
+                VersionInfo.getMicronautVersion(),
+                VersionInfo.getStarterVersion(),
+                coordinatesFingerprint());
+    }
+
+    private String coordinatesFingerprint() {
+        Map<String, String> coordinates = new TreeMap<>();
+        for (Map.Entry<String, Coordinate> entry : coordinatesProvider.getCoordinates().entrySet()) {
+            Coordinate coordinate = entry.getValue();
+            coordinates.put(entry.getKey(), coordinate.getGroupId() + ":" + coordinate.getArtifactId() + ":" + coordinate.getVersion());
+        }
+        return coordinates.toString();
+    }
+
+    private static void updateDirectory(MessageDigest digest,
+                                        Path directory,
+                                        List<Path> excludedDirectories,
+                                        boolean excludeNonInputs) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Path root = directory.toAbsolutePath().normalize();
+        List<Path> excluded = excludedDirectories.stream().map(path -> path.toAbsolutePath().normalize()).toList();
+        List<Path> files = new ArrayList<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (!dir.equals(root) && (excluded.contains(dir) || (excludeNonInputs && isNonInput(dir)))) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile()) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        files.sort(null);
+        for (Path file : files) {
+            update(digest, root.relativize(file).toString());
+            digest.update(Files.readAllBytes(file));
+        }
+    }
+
+    private static boolean isNonInput(Path directory) {
+        String name = directory.getFileName().toString();
+        return name.startsWith(".") || EXCLUDED_DIRECTORY_NAMES.contains(name);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " not supported", e);
+        }
+    }
+}
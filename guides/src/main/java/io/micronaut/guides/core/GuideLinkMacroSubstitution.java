@@ -15,6 +15,7 @@
  */
 package io.micronaut.guides.core;
 
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import jakarta.inject.Singleton;
 
 import java.util.regex.Matcher;
@@ -28,6 +29,7 @@ import static io.micronaut.guides.core.MacroUtils.findMacroInstances;
  */
 @Singleton
 public class GuideLinkMacroSubstitution implements MacroSubstitution {
+    private static final String MACRO_GUIDE_LINK = "guideLink:";
     private static final Pattern GUIDE_LINK_REGEX = Pattern.compile("guideLink:(.*?)\\[(.*?)]");
 
     /**
@@ -56,6 +58,24 @@ public class GuideLinkMacroSubstitution implements MacroSubstitution {
      */
     @Override
     public String substitute(String str, Guide guide, GuidesOption option) {
+        AsciidocDocument document = AsciidocDocument.parse(str);
+        substitute(document, guide, option);
+        return document.toString();
+    }
+
+    /**
+     * Substitutes guide link macros in every line of the given document with standard link formats.
+     *
+     * @param document the document containing guide link macros
+     * @param guide    the guide object (not used in this implementation)
+     * @param option   the guides option (not used in this implementation)
+     */
+    @Override
+    public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
+        document.replaceText(line -> line.contains(MACRO_GUIDE_LINK) ? substituteLine(line) : line);
+    }
+
+    private static String substituteLine(String str) {
         for (String instance : findMacroInstances(str, GUIDE_LINK_REGEX)) {
             String res = processGuideLink(instance);
             str = str.replace(instance, res);
@@ -48,4 +48,16 @@ public interface GuideMerger {
         }
         return new ArrayList<>(mergedSet);
     }
+
+    /**
+     * Merges a list of a guide metadata object with the list inherited from its base.
+     *
+     * @param base The list of the base metadata object.
+     * @param list The list of the metadata object.
+     * @param <T>  The type of the list elements.
+     * @return The base list if the list is not set, otherwise both lists merged into one.
+     */
+    static <T> List<T> mergeWithBase(List<T> base, List<T> list) {
+        return list == null ? base : mergeLists(base, list);
+    }
 }
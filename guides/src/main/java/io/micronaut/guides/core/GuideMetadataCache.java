@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binary cache of the guide metadata files which passed the JSON schema validation. A metadata file is identified by its size,
+ * last modified time and content hash. The cache is discarded when the JSON schema changes.
+ */
+@Internal
+final class GuideMetadataCache {
+    private static final Logger LOG = LoggerFactory.getLogger(GuideMetadataCache.class);
+    private static final int FORMAT_VERSION = 1;
+    private static final String ALGORITHM = "SHA-256";
+
+    private final File file;
+    private final String schemaHash;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    private GuideMetadataCache(File file, String schemaHash) {
+        this.file = file;
+        this.schemaHash = schemaHash;
+    }
+
+    /**
+     * Loads the cache written by a previous build.
+     *
+     * @param file   the cache file
+     * @param schema the JSON schema the cached metadata files were validated against
+     * @return the cache, empty if the file does not exist, cannot be read or was written for another JSON schema
+     */
+    @NonNull
+    static GuideMetadataCache load(@NonNull File file, @NonNull String schema) {
+        GuideMetadataCache cache = new GuideMetadataCache(file, hash(schema));
+        if (!file.exists()) {
+            return cache;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(cache.schemaHash)) {
+                return cache;
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                cache.entries.put(in.readUTF(), new Entry(in.readLong(), in.readLong(), in.readUTF()));
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not read the guide metadata cache {}, ignoring it", file, e);
+            cache.entries.clear();
+        }
+        return cache;
+    }
+
+    /**
+     * Checks whether the metadata file passed the JSON schema validation in a previous build.
+     *
+     * @param metadataFile the metadata file
+     * @param content      the content of the metadata file
+     * @return true if the unchanged metadata file passed the validation
+     */
+    boolean isValid(@NonNull File metadataFile, @NonNull String content) {
+        Entry entry = entries.get(metadataFile.getAbsolutePath());
+        return entry != null
+                && entry.size() == metadataFile.length()
+                && entry.lastModified() == metadataFile.lastModified()
+                && entry.hash().equals(hash(content));
+    }
+
+    /**
+     * Records that the metadata file passed the JSON schema validation.
+     *
+     * @param metadataFile the metadata file
+     * @param content      the content of the metadata file
+     */
+    void putValid(@NonNull File metadataFile, @NonNull String content) {
+        Entry entry = new Entry(metadataFile.length(), metadataFile.lastModified(), hash(content));
+        if (!entry.equals(entries.put(metadataFile.getAbsolutePath(), entry))) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Writes the cache if it changed since it was loaded.
+     *
+     * @throws IOException if the cache cannot be written
+     */
+    void save() throws IOException {
+        if (!modified) {
+            return;
+        }
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        Map<String, Entry> sorted = new TreeMap<>(entries);
+        try (OutputStream outputStream = Files.newOutputStream(file.toPath());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(schemaHash);
+            out.writeInt(sorted.size());
+            for (Map.Entry<String, Entry> entry : sorted.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue().size());
+                out.writeLong(entry.getValue().lastModified());
+                out.writeUTF(entry.getValue().hash());
+            }
+        }
+        modified = false;
+    }
+
+    private static String hash(String content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(ALGORITHM).digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    private record Entry(long size, long lastModified, String hash) {
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * Interface for rendering the HTML page of a guide option in memory.
+ */
+public interface GuideOptionRenderer {
+
+    /**
+     * Renders the HTML page of a guide option. The projects of the guide must have been generated in the output directory.
+     *
+     * @param guide           the guide
+     * @param guidesOption    the guide option
+     * @param document        the guide asciidoc, it is copied and not modified
+     * @param inputDirectory  the directory containing the source files for the website
+     * @param outputDirectory the directory where the guide projects were generated
+     * @return the rendered HTML page
+     * @throws IOException if an I/O error occurs while rendering
+     */
+    @NonNull
+    default String render(@NonNull @NotNull Guide guide,
+                          @NonNull @NotNull GuidesOption guidesOption,
+                          @NonNull @NotNull AsciidocDocument document,
+                          @NonNull @NotNull File inputDirectory,
+                          @NonNull @NotNull File outputDirectory) throws IOException {
+        StringWriter writer = new StringWriter();
+        render(guide, guidesOption, document, inputDirectory, outputDirectory, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Renders the HTML page of a guide option, streaming it to the writer. The projects of the guide must have been generated in the output directory.
+     *
+     * @param guide           the guide
+     * @param guidesOption    the guide option
+     * @param document        the guide asciidoc, it is copied and not modified
+     * @param inputDirectory  the directory containing the source files for the website
+     * @param outputDirectory the directory where the guide projects were generated
+     * @param writer          the writer the HTML page is rendered to
+     * @throws IOException if an I/O error occurs while rendering
+     */
+    void render(@NonNull @NotNull Guide guide,
+                @NonNull @NotNull GuidesOption guidesOption,
+                @NonNull @NotNull AsciidocDocument document,
+                @NonNull @NotNull File inputDirectory,
+                @NonNull @NotNull File outputDirectory,
+                @NonNull @NotNull Writer writer) throws IOException;
+}
@@ -34,4 +34,20 @@ public interface GuideProjectGenerator {
      * @throws IOException if an I/O error occurs during project generation
      */
     void generate(@NotNull @NonNull File outputDirectory, @NotNull @NonNull Guide guide) throws IOException;
+
+    /**
+     * Generates a guide project into a project tree. The project of each guide option is generated in the directory named after the guide option.
+     *
+     * @param projectTree the tree where the project will be generated
+     * @param guide       the guide containing the project details
+     * @throws IOException if an I/O error occurs during project generation
+     */
+    void generate(@NotNull @NonNull ProjectTree projectTree, @NotNull @NonNull Guide guide) throws IOException;
+
+    /**
+     * Discards the projects cached while generating guides. Called at the end of every build, so that long-running processes
+     * do not keep the projects of every build in memory.
+     */
+    default void clearCache() {
+    }
 }
@@ -21,7 +21,7 @@ import jakarta.validation.constraints.NotNull;
 import java.io.IOException;
 
 /**
- * Interface for zipping a directory into a single output file.
+ * Interface for zipping a directory, of the file system or of a {@link ProjectTree}, into a single output file.
  */
 public interface GuideProjectZipper {
 
@@ -33,4 +33,14 @@ public interface GuideProjectZipper {
      * @throws IOException if an I/O error occurs during zipping
      */
     void zipDirectory(@NonNull @NotNull String sourceDir, @NonNull @NotNull String outputFile) throws IOException;
+
+    /**
+     * Zips the files of the specified directory of a project tree into the specified output file.
+     *
+     * @param projectTree the project tree
+     * @param directory   the directory of the project tree to be zipped
+     * @param outputFile  the path to the output file where the zipped content will be written
+     * @throws IOException if an I/O error occurs during zipping
+     */
+    void zip(@NonNull @NotNull ProjectTree projectTree, @NonNull @NotNull String directory, @NonNull @NotNull String outputFile) throws IOException;
 }
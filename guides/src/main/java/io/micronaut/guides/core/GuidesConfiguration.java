@@ -15,8 +15,10 @@
  */
 package io.micronaut.guides.core;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.starter.options.JdkVersion;
 
+import java.io.File;
 import java.util.List;
 
 /**
@@ -141,4 +143,74 @@ public interface GuidesConfiguration {
      * @return the system property for Micronaut guide
      */
     String getSysPropMicronautGuide();
+
+    /**
+     * Returns whether guides and their options are generated in parallel.
+     *
+     * @return true if guides are generated in parallel, false otherwise
+     */
+    boolean isParallel();
+
+    /**
+     * Returns the maximum number of guides or guide options generated concurrently when parallel generation is enabled.
+     *
+     * @return the parallelism
+     */
+    int getParallelism();
+
+    /**
+     * Returns whether the website is generated incrementally, skipping guides whose inputs did not change since the previous build.
+     *
+     * @return true if the website is generated incrementally, false otherwise
+     */
+    boolean isIncremental();
+
+    /**
+     * Returns whether the guide project zips are reproducible. Reproducible zips have sorted entries and fixed timestamps,
+     * and their entries are compressed in parallel, unless the guides themselves are generated in parallel.
+     *
+     * @return true if the guide project zips are reproducible, false otherwise
+     */
+    boolean isReproducibleZips();
+
+    /**
+     * Returns the file where the guide metadata parser caches the metadata files which passed the JSON schema validation.
+     *
+     * @return the metadata cache file, null if the cache is disabled
+     */
+    @Nullable
+    File getMetadataCacheFile();
+
+    /**
+     * Returns whether the projects generated by Micronaut Starter are cached for the duration of the build. Apps sharing the
+     * same application type, package, framework, features, build tool, test framework, language and JDK are generated once
+     * and copied to every destination.
+     *
+     * @return true if the generated projects are cached, false otherwise
+     */
+    boolean isProjectCache();
+
+    /**
+     * Returns whether the guide sources are hard linked into the generated projects instead of copied. Only the files which are not
+     * modified, for example by adding a license header, are linked. Files are copied when the file system does not support links.
+     *
+     * @return true if the guide sources are hard linked, false otherwise
+     */
+    boolean isLinkFiles();
+
+    /**
+     * Returns whether a build report, listing the time spent in each stage of the build and the slowest guides and guide options,
+     * is written to the output directory as {@code build-report.json} and {@code build-report.html}.
+     *
+     * @return true if the build report is written, false otherwise
+     */
+    boolean isBuildReport();
+
+    /**
+     * Returns whether every {@link MacroSubstitution} is profiled. The invocations, time, macros matched and bytes allocated
+     * of each substitution are aggregated across the build by the {@link MacroSubstitutionProfiler}.
+     *
+     * @return true if the macro substitutions are profiled, false otherwise
+     */
+    boolean isMacroProfiling();
 }
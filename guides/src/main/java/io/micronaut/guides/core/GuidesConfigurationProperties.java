@@ -16,8 +16,10 @@
 package io.micronaut.guides.core;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.starter.options.JdkVersion;
 
+import java.io.File;
 import java.util.List;
 
 import static io.micronaut.starter.options.JdkVersion.JDK_17;
@@ -46,6 +48,13 @@ public class GuidesConfigurationProperties implements GuidesConfiguration {
     private static final String ENV_GITHUB_WORKFLOW = "GITHUB_WORKFLOW";
     private static final String SYS_PROP_MICRONAUT_GUIDE = "micronaut.guide";
     private static final String DEFAULT_GUIDES_DIR = "guides";
+    private static final boolean DEFAULT_PARALLEL = false;
+    private static final boolean DEFAULT_INCREMENTAL = false;
+    private static final boolean DEFAULT_REPRODUCIBLE_ZIPS = false;
+    private static final boolean DEFAULT_PROJECT_CACHE = true;
+    private static final boolean DEFAULT_LINK_FILES = false;
+    private static final boolean DEFAULT_BUILD_REPORT = false;
+    private static final boolean DEFAULT_MACRO_PROFILING = false;
 
     private String guidesDir = DEFAULT_GUIDES_DIR;
     private String title = "Micronaut Guides";
@@ -60,6 +69,15 @@ public class GuidesConfigurationProperties implements GuidesConfiguration {
     private String envGithubWorkflow = ENV_GITHUB_WORKFLOW;
     private String sysPropMicronautGuide = SYS_PROP_MICRONAUT_GUIDE;
     private String version = DEFAULT_VERSION;
+    private boolean parallel = DEFAULT_PARALLEL;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private boolean incremental = DEFAULT_INCREMENTAL;
+    private boolean reproducibleZips = DEFAULT_REPRODUCIBLE_ZIPS;
+    private File metadataCacheFile;
+    private boolean projectCache = DEFAULT_PROJECT_CACHE;
+    private boolean linkFiles = DEFAULT_LINK_FILES;
+    private boolean buildReport = DEFAULT_BUILD_REPORT;
+    private boolean macroProfiling = DEFAULT_MACRO_PROFILING;
 
     /**
      * Gets the JDK versions supported by GraalVM.
@@ -356,4 +374,176 @@ public class GuidesConfigurationProperties implements GuidesConfiguration {
     public void setGuidesDir(String guidesDir) {
         this.guidesDir = guidesDir;
     }
+
+    /**
+     * Checks whether guides are generated in parallel.
+     *
+     * @return true if guides are generated in parallel, false otherwise
+     */
+    @Override
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether guides are generated in parallel.
+     *
+     * @param parallel true to generate guides in parallel, false to generate them sequentially
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Gets the maximum number of guides or guide options generated concurrently.
+     *
+     * @return the parallelism
+     */
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of guides or guide options generated concurrently. Defaults to the number of available processors.
+     *
+     * @param parallelism the parallelism to set
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Checks whether the website is generated incrementally.
+     *
+     * @return true if the website is generated incrementally, false otherwise
+     */
+    @Override
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Sets whether the website is generated incrementally.
+     *
+     * @param incremental true to skip guides whose inputs did not change since the previous build
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Checks whether the guide project zips are reproducible.
+     *
+     * @return true if the guide project zips are reproducible, false otherwise
+     */
+    @Override
+    public boolean isReproducibleZips() {
+        return reproducibleZips;
+    }
+
+    /**
+     * Sets whether the guide project zips are reproducible.
+     *
+     * @param reproducibleZips true to zip the entries with sorted entries and fixed timestamps
+     */
+    public void setReproducibleZips(boolean reproducibleZips) {
+        this.reproducibleZips = reproducibleZips;
+    }
+
+    /**
+     * Gets the file where the guide metadata parser caches the metadata files which passed the JSON schema validation.
+     *
+     * @return the metadata cache file, null if the cache is disabled
+     */
+    @Override
+    @Nullable
+    public File getMetadataCacheFile() {
+        return metadataCacheFile;
+    }
+
+    /**
+     * Sets the file where the guide metadata parser caches the metadata files which passed the JSON schema validation. Disabled by default.
+     *
+     * @param metadataCacheFile the metadata cache file
+     */
+    public void setMetadataCacheFile(@Nullable File metadataCacheFile) {
+        this.metadataCacheFile = metadataCacheFile;
+    }
+
+    /**
+     * Checks whether the projects generated by Micronaut Starter are cached for the duration of the build.
+     *
+     * @return true if the generated projects are cached, false otherwise
+     */
+    @Override
+    public boolean isProjectCache() {
+        return projectCache;
+    }
+
+    /**
+     * Sets whether the projects generated by Micronaut Starter are cached for the duration of the build. Defaults to true.
+     *
+     * @param projectCache true to generate the projects of identical apps once and copy them
+     */
+    public void setProjectCache(boolean projectCache) {
+        this.projectCache = projectCache;
+    }
+
+    /**
+     * Checks whether the guide sources are hard linked into the generated projects instead of copied.
+     *
+     * @return true if the guide sources are hard linked, false otherwise
+     */
+    @Override
+    public boolean isLinkFiles() {
+        return linkFiles;
+    }
+
+    /**
+     * Sets whether the guide sources are hard linked into the generated projects instead of copied. Defaults to false.
+     *
+     * @param linkFiles true to hard link the guide sources which are not modified
+     */
+    public void setLinkFiles(boolean linkFiles) {
+        this.linkFiles = linkFiles;
+    }
+
+    /**
+     * Checks whether a build report is written to the output directory.
+     *
+     * @return true if the build report is written, false otherwise
+     */
+    @Override
+    public boolean isBuildReport() {
+        return buildReport;
+    }
+
+    /**
+     * Sets whether a build report, listing the slowest stages, guides and guide options, is written to the output directory. Defaults to false.
+     *
+     * @param buildReport true to write the build report
+     */
+    public void setBuildReport(boolean buildReport) {
+        this.buildReport = buildReport;
+    }
+
+    /**
+     * Checks whether every macro substitution is profiled.
+     *
+     * @return true if the macro substitutions are profiled, false otherwise
+     */
+    @Override
+    public boolean isMacroProfiling() {
+        return macroProfiling;
+    }
+
+    /**
+     * Sets whether every macro substitution is profiled. Defaults to false.
+     *
+     * @param macroProfiling true to profile the macro substitutions
+     */
+    public void setMacroProfiling(boolean macroProfiling) {
+        this.macroProfiling = macroProfiling;
+    }
 }
@@ -16,14 +16,12 @@
 package io.micronaut.guides.core;
 
 import io.micronaut.guides.core.asciidoc.Argument;
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import io.micronaut.guides.core.asciidoc.AsciidocMacro;
 import io.micronaut.guides.core.asciidoc.Attribute;
 import io.micronaut.guides.core.asciidoc.IncludeDirective;
 
 import java.nio.file.Path;
-import java.util.Optional;
-
-import static io.micronaut.guides.core.MacroUtils.findMacroLines;
 
 abstract class LineMacroSubstitution implements MacroSubstitution {
     /**
@@ -49,28 +47,29 @@ abstract class LineMacroSubstitution implements MacroSubstitution {
 
     @Override
     public String substitute(String str, Guide guide, GuidesOption option) {
-        for (String line : findMacroLines(str, getMacroName())) {
-            Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(getMacroName(), line);
-            if (asciidocMacroOptional.isEmpty()) {
-                continue;
-            }
+        AsciidocDocument document = AsciidocDocument.parse(str);
+        substitute(document, guide, option);
+        return document.toString();
+    }
 
-            AsciidocMacro macro = asciidocMacroOptional.get();
-            StringBuilder builder = new StringBuilder();
+    @Override
+    public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
+        document.replaceMacros(getMacroName(), node -> node.getMacro().map(this::replacement).orElse(null));
+    }
 
-            for (Attribute attribute : macro.attributes()) {
-                Argument argument = new Argument(attribute.key(), attribute.values().getFirst());
-                builder.append(argument).append("\n");
-            }
+    private String replacement(AsciidocMacro macro) {
+        StringBuilder builder = new StringBuilder();
 
-            Path target = Path.of(getBaseDirectory(), getPrefix() + macro.target());
+        for (Attribute attribute : macro.attributes()) {
+            Argument argument = new Argument(attribute.key(), attribute.values().getFirst());
+            builder.append(argument).append("\n");
+        }
 
-            IncludeDirective.Builder includeDirectiveBuilder = IncludeDirective.builder().target(target.toString());
-            builder.append(includeDirectiveBuilder.build());
+        Path target = Path.of(getBaseDirectory(), getPrefix() + macro.target());
 
-            str = str.replace(line, builder.toString());
-        }
-        return str;
+        IncludeDirective.Builder includeDirectiveBuilder = IncludeDirective.builder().target(target.toString());
+        builder.append(includeDirectiveBuilder.build());
+        return builder.toString();
     }
 
     @Override
@@ -15,9 +15,8 @@
  */
 package io.micronaut.guides.core;
 
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import io.micronaut.guides.core.asciidoc.AsciidocMacro;
-import java.util.Optional;
-import static io.micronaut.guides.core.MacroUtils.findMacroLines;
 
 /**
  * Line Replacement Macro Substitution.
@@ -40,16 +39,15 @@ public abstract class LineReplacementMacroSubstitution implements MacroSubstitut
 
     @Override
     public String substitute(String str, Guide guide, GuidesOption option) {
-        for (String line : findMacroLines(str, getMacro())) {
-            Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(getMacro(), line);
-            if (asciidocMacroOptional.isEmpty()) {
-                continue;
-            }
-
-            AsciidocMacro asciidocMacro = asciidocMacroOptional.get();
-            str = str.replace(line, replacement(asciidocMacro, guide, option));
-        }
-        return str;
+        AsciidocDocument document = AsciidocDocument.parse(str);
+        substitute(document, guide, option);
+        return document.toString();
     }
 
+    @Override
+    public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
+        document.replaceMacros(getMacro(), node -> node.getMacro()
+                .map(asciidocMacro -> replacement(asciidocMacro, guide, option))
+                .orElse(null));
+    }
 }
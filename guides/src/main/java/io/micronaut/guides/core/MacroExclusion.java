@@ -15,11 +15,11 @@
  */
 package io.micronaut.guides.core;
 
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
+
 import java.util.List;
 
 abstract class MacroExclusion implements MacroSubstitution {
-    private static final String LINE_BREAK = "\n";
-
     /**
      * Gets the name of the macro.
      *
@@ -39,14 +39,13 @@ abstract class MacroExclusion implements MacroSubstitution {
 
     @Override
     public String substitute(String str, Guide guide, GuidesOption option) {
-        for (List<String> group : MacroUtils.findMacroGroupsNested(str, getMacroName())) {
-            List<String> params = MacroUtils.extractMacroGroupParameters(group.getFirst(), getMacroName());
-            if (shouldExclude(params, option, guide)) {
-                str = str.replace(String.join(LINE_BREAK, group) + LINE_BREAK, "");
-            } else {
-                str = str.replace(String.join(LINE_BREAK, group), String.join(LINE_BREAK, group.subList(1, group.size() - 1)));
-            }
-        }
-        return str;
+        AsciidocDocument document = AsciidocDocument.parse(str);
+        substitute(document, guide, option);
+        return document.toString();
+    }
+
+    @Override
+    public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
+        document.resolveGroups(getMacroName(), params -> shouldExclude(params, option, guide));
     }
 }
@@ -17,6 +17,7 @@ package io.micronaut.guides.core;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.order.Ordered;
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import io.micronaut.guides.core.asciidoc.AsciidocMacro;
 import io.micronaut.guides.core.asciidoc.Attribute;
 
@@ -38,6 +39,18 @@ public interface MacroSubstitution extends Ordered {
     @NonNull
     String substitute(@NonNull String str, @NonNull Guide guide, @NonNull GuidesOption option);
 
+    /**
+     * Substitutes macros in the given lexed document. Implementations override it to edit the document nodes
+     * instead of serializing and lexing the document again.
+     *
+     * @param document the document containing macros
+     * @param guide    the guide object
+     * @param option   the guides option
+     */
+    default void substitute(@NonNull AsciidocDocument document, @NonNull Guide guide, @NonNull GuidesOption option) {
+        document.replaceContent(substitute(document.toString(), guide, option));
+    }
+
     /**
      * Retrieves the application associated with the given guide and Asciidoc macro.
      *
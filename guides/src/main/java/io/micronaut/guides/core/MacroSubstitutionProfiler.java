@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Aggregates, across a build, the invocations, time, macros matched and bytes allocated of every {@link MacroSubstitution}.
+ * Substitutions are only profiled when {@link GuidesConfiguration#isMacroProfiling()} is enabled.
+ */
+public interface MacroSubstitutionProfiler {
+
+    /**
+     * Returns whether the macro substitutions are profiled.
+     *
+     * @return true if the macro substitutions are profiled
+     */
+    boolean isEnabled();
+
+    /**
+     * Records an invocation of a macro substitution.
+     *
+     * @param substitution   the substitution class
+     * @param nanos          the duration of the invocation in nanoseconds
+     * @param matches        the number of macros matched by the invocation
+     * @param allocatedBytes the number of bytes allocated by the invocation, or -1 if unknown
+     */
+    void record(@NonNull Class<?> substitution, long nanos, int matches, long allocatedBytes);
+
+    /**
+     * Returns a table of the profiled substitutions, sorted by total time.
+     *
+     * @return the table
+     */
+    @NonNull
+    String report();
+
+    /**
+     * Discards the recorded invocations, so the next {@link #report()} only covers the following build.
+     */
+    void reset();
+}
@@ -16,10 +16,13 @@
 package io.micronaut.guides.core;
 
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import io.micronaut.starter.build.dependencies.Coordinate;
 import io.micronaut.starter.util.VersionInfo;
 import jakarta.inject.Singleton;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.micronaut.starter.api.TestFramework.SPOCK;
@@ -32,6 +35,7 @@ public class PlaceholderMacroSubstitution implements MacroSubstitution {
 
     private final GuidesConfiguration guidesConfiguration;
     private final CoordinatesProvider coordinatesProvider;
+    private volatile VersionPlaceholders versionPlaceholders;
 
     /**
      * Constructs a new PlaceholderMacroSubstitution.
@@ -54,35 +58,65 @@ public class PlaceholderMacroSubstitution implements MacroSubstitution {
      */
     @Override
     public String substitute(String str, Guide guide, GuidesOption option) {
+        return placeholderReplacer(guide, option).replace(str);
+    }
+
+    /**
+     * Substitutes placeholders in every line of the given document with values from the guide and option.
+     *
+     * @param document the document containing placeholders
+     * @param guide    the guide metadata
+     * @param option   the guide option
+     */
+    @Override
+    public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
+        document.replaceText(placeholderReplacer(guide, option)::replace);
+    }
 
-        str = str.replace("{githubSlug}", guide.getSlug());
-        str = str.replace("@language@", StringUtils.capitalize(option.getLanguage().toString()));
-        str = str.replace("@guideTitle@", guide.getTitle());
-        str = str.replace("@guideIntro@", guide.getIntro());
-        str = str.replace("@micronaut@", String.valueOf(guidesConfiguration.getVersion()));
-        str = str.replace("@lang@", option.getLanguage().toString());
-        str = str.replace("@build@", option.getBuildTool().toString());
-        str = str.replace("@testFramework@", option.getTestFramework().toString());
-        str = str.replace("@authors@", String.join(", ", guide.getAuthors()));
-        str = str.replace("@languageextension@", option.getLanguage().getExtension());
-        str = str.replace("@testsuffix@", option.getTestFramework() == SPOCK ? "Spec" : "Test");
-        str = str.replace("@sourceDir@", MacroUtils.getSourceDir(guide.getSlug(), option));
-        str = str.replace("@minJdk@", String.valueOf(guide.getMinimumJavaVersion() != null ? guide.getMinimumJavaVersion() : guidesConfiguration.getDefaultMinJdk()));
-        str = str.replace("@api@", guidesConfiguration.getApiUrl());
+    private PlaceholderReplacer placeholderReplacer(Guide guide, GuidesOption option) {
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("{githubSlug}", guide.getSlug());
+        placeholders.put("@language@", StringUtils.capitalize(option.getLanguage().toString()));
+        placeholders.put("@guideTitle@", guide.getTitle());
+        placeholders.put("@guideIntro@", guide.getIntro());
+        placeholders.put("@micronaut@", String.valueOf(guidesConfiguration.getVersion()));
+        placeholders.put("@lang@", option.getLanguage().toString());
+        placeholders.put("@build@", option.getBuildTool().toString());
+        placeholders.put("@testFramework@", option.getTestFramework().toString());
+        placeholders.put("@authors@", String.join(", ", guide.getAuthors()));
+        placeholders.put("@languageextension@", option.getLanguage().getExtension());
+        placeholders.put("@testsuffix@", option.getTestFramework() == SPOCK ? "Spec" : "Test");
+        placeholders.put("@sourceDir@", MacroUtils.getSourceDir(guide.getSlug(), option));
+        placeholders.put("@minJdk@", String.valueOf(guide.getMinimumJavaVersion() != null ? guide.getMinimumJavaVersion() : guidesConfiguration.getDefaultMinJdk()));
+        placeholders.put("@api@", guidesConfiguration.getApiUrl());
+        return new PlaceholderReplacer(List.of(placeholders, versionPlaceholders()));
+    }
 
-        for (Map.Entry<String, Coordinate> entry : coordinatesProvider.getCoordinates().entrySet()) {
-            if (StringUtils.isNotEmpty(entry.getValue().getVersion())) {
-                str = str.replace("@" + entry.getKey() + "Version@", entry.getValue().getVersion());
+    /**
+     * The version placeholders only change when the coordinates are refreshed, thus they are compiled once per coordinates map.
+     */
+    private Map<String, String> versionPlaceholders() {
+        Map<String, Coordinate> coordinates = coordinatesProvider.getCoordinates();
+        VersionPlaceholders cached = this.versionPlaceholders;
+        if (cached == null || cached.coordinates() != coordinates) {
+            Map<String, String> placeholders = new HashMap<>();
+            for (Map.Entry<String, Coordinate> entry : coordinates.entrySet()) {
+                if (StringUtils.isNotEmpty(entry.getValue().getVersion())) {
+                    placeholders.putIfAbsent("@" + entry.getKey() + "Version@", entry.getValue().getVersion());
+                }
             }
+            placeholders.putIfAbsent("@micronautVersion@", VersionInfo.getMicronautVersion());
+            cached = new VersionPlaceholders(coordinates, placeholders);
+            this.versionPlaceholders = cached;
         }
-
-        str = str.replace("@micronautVersion@", VersionInfo.getMicronautVersion());
-
-        return str;
+        return cached.placeholders();
     }
 
     @Override
     public int getOrder() {
         return 2;
     }
+
+    private record VersionPlaceholders(Map<String, Coordinate> coordinates, Map<String, String> placeholders) {
+    }
 }
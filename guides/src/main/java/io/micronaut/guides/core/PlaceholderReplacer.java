@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces {@code @name@} and {@code {name}} placeholders in a single scan of a string.
+ * Placeholders are looked up in a list of tables; when several tables define a placeholder, the first one wins.
+ */
+@Internal
+final class PlaceholderReplacer {
+    private static final char AT = '@';
+    private static final char OPEN_BRACE = '{';
+    private static final char CLOSE_BRACE = '}';
+
+    private final List<Map<String, String>> tables;
+    private final int maxPlaceholderLength;
+
+    /**
+     * Constructs a new PlaceholderReplacer.
+     *
+     * @param tables Placeholder tables. Keys are the placeholders including their delimiters, e.g. {@code @lang@}.
+     */
+    PlaceholderReplacer(@NonNull List<Map<String, String>> tables) {
+        this.tables = tables;
+        this.maxPlaceholderLength = tables.stream()
+                .flatMap(table -> table.keySet().stream())
+                .mapToInt(String::length)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * Replaces every placeholder found in the given string.
+     *
+     * @param str the string containing placeholders
+     * @return the string with placeholders replaced
+     */
+    @NonNull
+    String replace(@NonNull String str) {
+        StringBuilder sb = null;
+        int copied = 0;
+        int length = str.length();
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            char closing;
+            if (c == AT) {
+                closing = AT;
+            } else if (c == OPEN_BRACE) {
+                closing = CLOSE_BRACE;
+            } else {
+                continue;
+            }
+            int end = closingIndex(str, closing, i + 1, Math.min(length, i + maxPlaceholderLength));
+            if (end == -1) {
+                continue;
+            }
+            String value = lookup(str.substring(i, end + 1));
+            if (value == null) {
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(length + (length >> 4));
+            }
+            sb.append(str, copied, i).append(value);
+            copied = end + 1;
+            i = end;
+        }
+        if (sb == null) {
+            return str;
+        }
+        return sb.append(str, copied, length).toString();
+    }
+
+    private String lookup(String placeholder) {
+        for (Map<String, String> table : tables) {
+            String value = table.get(placeholder);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static int closingIndex(String str, char closing, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (str.charAt(i) == closing) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -16,6 +16,7 @@
 package io.micronaut.guides.core;
 
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
 import io.micronaut.guides.core.asciidoc.PlacheholderMacro;
 
 import java.util.Optional;
@@ -40,8 +41,20 @@ abstract class PlaceholderWithTargetMacroSubstitution implements MacroSubstituti
      */
     protected abstract String getSubstitution(Guide guide, GuidesOption option, String app);
 
+    @Override
     public String substitute(String str, Guide guide, GuidesOption option) {
+        AsciidocDocument document = AsciidocDocument.parse(str);
+        substitute(document, guide, option);
+        return document.toString();
+    }
+
+    @Override
+    public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
         Pattern pattern = Pattern.compile("@(?:([\\w-]*):)?" + getMacroName() + "@");
+        document.replaceText(line -> line.indexOf('@') == -1 ? line : substitute(line, pattern, guide, option));
+    }
+
+    private String substitute(String str, Pattern pattern, Guide guide, GuidesOption option) {
         for (String instance : MacroUtils.findMacroInstances(str, pattern)) {
             Optional<PlacheholderMacro> macroOptional = PlacheholderMacro.of(getMacroName(), instance);
             if (macroOptional.isEmpty()) {
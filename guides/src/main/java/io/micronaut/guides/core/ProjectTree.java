@@ -0,0 +1,407 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory tree of project files, addressed by paths relative to the tree root and separated by {@code /}.
+ * The guide projects are generated, completed with the guide sources and zipped in memory, then written to disk once
+ * with {@link #flush(Path)}. Files copied from disk are only read when their content is needed, and a header prepended to them
+ * with {@link #prepend(String, byte[])} is only written in front of their content when zipped or flushed.
+ * A tree is not thread-safe, but once populated it can be read concurrently.
+ */
+public final class ProjectTree {
+    private static final byte[] NO_PREFIX = new byte[0];
+
+    private final SortedMap<String, ProjectFile> files = new TreeMap<>();
+    private final Set<String> deleted = new HashSet<>();
+
+    /**
+     * Creates a tree with the files of a directory. Their content is not read, and they are not written again by {@link #flush(Path)}
+     * unless they are modified.
+     *
+     * @param root the directory
+     * @return a tree with the files of the directory
+     * @throws IOException if an I/O error occurs while listing the files
+     */
+    @NonNull
+    public static ProjectTree load(@NonNull Path root) throws IOException {
+        ProjectTree projectTree = new ProjectTree();
+        Path directory = root.toAbsolutePath().normalize();
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path file : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                    projectTree.files.put(normalize(directory.relativize(file).toString()), new ProjectFile(NO_PREFIX, null, file, false));
+                }
+            }
+        }
+        return projectTree;
+    }
+
+    /**
+     * Resolves a path against a directory of the tree.
+     *
+     * @param directory the directory, empty for the tree root
+     * @param path      the path relative to the directory
+     * @return the path relative to the tree root
+     */
+    @NonNull
+    public static String resolve(@NonNull String directory, @NonNull String path) {
+        String normalizedDirectory = normalize(directory);
+        String normalizedPath = normalize(path);
+        if (normalizedDirectory.isEmpty()) {
+            return normalizedPath;
+        }
+        return normalizedPath.isEmpty() ? normalizedDirectory : normalizedDirectory + '/' + normalizedPath;
+    }
+
+    /**
+     * Checks whether the tree contains a file.
+     *
+     * @param path the file path
+     * @return true if the tree contains the file
+     */
+    public boolean exists(@NonNull String path) {
+        return files.containsKey(normalize(path));
+    }
+
+    /**
+     * Checks whether a file of the tree must be executable.
+     *
+     * @param path the file path
+     * @return true if the file must be executable
+     */
+    public boolean isExecutable(@NonNull String path) {
+        ProjectFile file = files.get(normalize(path));
+        return file != null && file.executable();
+    }
+
+    /**
+     * Writes a file, replacing any previous content.
+     *
+     * @param path       the file path
+     * @param content    the file content
+     * @param executable whether the file must be executable
+     */
+    public void write(@NonNull String path, @NonNull byte[] content, boolean executable) {
+        put(path, new ProjectFile(NO_PREFIX, content, null, executable));
+    }
+
+    /**
+     * Copies a file from disk into the tree, replacing any previous content. The source is only read when needed.
+     *
+     * @param source the file to copy
+     * @param path   the file path in the tree
+     */
+    public void copy(@NonNull Path source, @NonNull String path) {
+        put(path, new ProjectFile(NO_PREFIX, null, source.toAbsolutePath().normalize(), false));
+    }
+
+    /**
+     * Prepends bytes to the content of a file. The content is not read.
+     *
+     * @param path   the file path
+     * @param prefix the bytes to prepend
+     * @throws IOException if the file does not exist
+     */
+    public void prepend(@NonNull String path, @NonNull byte[] prefix) throws IOException {
+        ProjectFile file = get(path);
+        byte[] bytes = new byte[prefix.length + file.prefix().length];
+        System.arraycopy(prefix, 0, bytes, 0, prefix.length);
+        System.arraycopy(file.prefix(), 0, bytes, prefix.length, file.prefix().length);
+        put(path, new ProjectFile(bytes, file.content(), file.source(), file.executable()));
+    }
+
+    /**
+     * Deletes a file.
+     *
+     * @param path the file path
+     */
+    public void delete(@NonNull String path) {
+        String normalized = normalize(path);
+        if (files.remove(normalized) != null) {
+            deleted.add(normalized);
+        }
+    }
+
+    /**
+     * Reads the content of a file.
+     *
+     * @param path the file path
+     * @return the file content
+     * @throws IOException if the file does not exist or cannot be read
+     */
+    @NonNull
+    public byte[] read(@NonNull String path) throws IOException {
+        ProjectFile file = get(path);
+        if (file.prefix().length == 0) {
+            return file.content() != null ? file.content() : Files.readAllBytes(file.source());
+        }
+        try (InputStream inputStream = open(path)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    /**
+     * Opens a stream to read the content of a file.
+     *
+     * @param path the file path
+     * @return a stream with the file content
+     * @throws IOException if the file does not exist or cannot be read
+     */
+    @NonNull
+    public InputStream open(@NonNull String path) throws IOException {
+        ProjectFile file = get(path);
+        InputStream content = file.content() != null ? new ByteArrayInputStream(file.content()) : Files.newInputStream(file.source());
+        return file.prefix().length == 0 ? content : new SequenceInputStream(new ByteArrayInputStream(file.prefix()), content);
+    }
+
+    /**
+     * Lists the files of a directory and of its subdirectories.
+     *
+     * @param directory the directory, empty for the tree root
+     * @return the sorted paths of the files, relative to the tree root
+     */
+    @NonNull
+    public List<String> list(@NonNull String directory) {
+        String normalized = normalize(directory);
+        if (normalized.isEmpty()) {
+            return new ArrayList<>(files.keySet());
+        }
+        String prefix = normalized + '/';
+        return new ArrayList<>(files.subMap(prefix, prefix + Character.MAX_VALUE).keySet());
+    }
+
+    /**
+     * Returns the total size of the files of a directory and of its subdirectories.
+     *
+     * @param directory the directory, empty for the tree root
+     * @return the size in bytes
+     * @throws IOException if the size of a file copied from disk cannot be read
+     */
+    public long size(@NonNull String directory) throws IOException {
+        long size = 0;
+        for (String path : list(directory)) {
+            ProjectFile file = files.get(path);
+            size += file.prefix().length + (file.content() != null ? file.content().length : Files.size(file.source()));
+        }
+        return size;
+    }
+
+    /**
+     * Copies every file of this tree into a directory of another tree.
+     *
+     * @param target    the target tree
+     * @param directory the directory of the target tree, empty for its root
+     */
+    public void copyTo(@NonNull ProjectTree target, @NonNull String directory) {
+        for (Map.Entry<String, ProjectFile> entry : files.entrySet()) {
+            target.put(resolve(directory, entry.getKey()), entry.getValue());
+        }
+    }
+
+    /**
+     * Writes the files of the tree which were added or modified to a directory, and deletes the files which were deleted from the tree.
+     *
+     * @param root the directory
+     * @throws IOException if an I/O error occurs while writing the files
+     */
+    public void flush(@NonNull Path root) throws IOException {
+        flush(root, false);
+    }
+
+    /**
+     * Writes the files of the tree which were added or modified to a directory, and deletes the files which were deleted from the tree.
+     * Files which are identical on disk are not written again. Existing files are replaced rather than overwritten, so a file
+     * written to the directory never changes a file it was linked to.
+     *
+     * @param root the directory
+     * @param link whether the files copied unmodified from disk are hard linked instead of copied, falling back to a copy
+     *             when the file system does not support it
+     * @return the number of bytes which were linked instead of copied
+     * @throws IOException if an I/O error occurs while writing the files
+     */
+    public long flush(@NonNull Path root, boolean link) throws IOException {
+        Path directory = root.toAbsolutePath().normalize();
+        for (String path : deleted) {
+            Files.deleteIfExists(directory.resolve(path));
+        }
+        deleted.clear();
+        long linkedBytes = 0;
+        for (Map.Entry<String, ProjectFile> entry : files.entrySet()) {
+            Path target = directory.resolve(entry.getKey());
+            ProjectFile file = entry.getValue();
+            byte[] content = file.content();
+            if (target.equals(file.source())) {
+                if (file.prefix().length == 0) {
+                    continue;
+                }
+                content = Files.readAllBytes(target);
+            }
+            Files.createDirectories(target.getParent());
+            if (file.prefix().length != 0) {
+                Files.deleteIfExists(target);
+                writePrefixed(target, file.prefix(), content, file.source());
+            } else if (content != null) {
+                if (!hasContent(target, content)) {
+                    Files.deleteIfExists(target);
+                    Files.write(target, content);
+                }
+            } else if (link && link(file.source(), target)) {
+                linkedBytes += Files.size(target);
+            } else if (!CopyFileVisitor.isIdentical(file.source(), target)) {
+                Files.deleteIfExists(target);
+                Files.copy(file.source(), target, StandardCopyOption.COPY_ATTRIBUTES);
+            }
+            if (file.executable()) {
+                target.toFile().setExecutable(true);
+            }
+        }
+        return linkedBytes;
+    }
+
+    /**
+     * Deletes the files of a directory which are not in the tree, and the directories left empty.
+     *
+     * @param root      the directory the tree is flushed to
+     * @param directory the directory of the tree, empty for the tree root
+     * @throws IOException if an I/O error occurs while deleting the files
+     */
+    public void prune(@NonNull Path root, @NonNull String directory) throws IOException {
+        Path base = root.toAbsolutePath().normalize();
+        Path start = base.resolve(normalize(directory));
+        if (!Files.isDirectory(start)) {
+            return;
+        }
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(start)) {
+            paths = walk.sorted(Comparator.reverseOrder()).toList();
+        }
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                if (!path.equals(start)) {
+                    try (Stream<Path> children = Files.list(path)) {
+                        if (children.findAny().isEmpty()) {
+                            Files.delete(path);
+                        }
+                    }
+                }
+            } else if (!files.containsKey(normalize(base.relativize(path).toString()))) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static boolean hasContent(Path target, byte[] content) throws IOException {
+        return Files.isRegularFile(target) && Files.size(target) == content.length && Arrays.equals(Files.readAllBytes(target), content);
+    }
+
+    private static boolean link(Path source, Path target) throws IOException {
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            return true;
+        }
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the prefix, then the content or the source file, without copying the source file through the heap.
+     */
+    private static void writePrefixed(Path target, byte[] prefix, @Nullable byte[] content, @Nullable Path source) throws IOException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.wrap(prefix));
+            if (content != null) {
+                writeFully(channel, ByteBuffer.wrap(content));
+                return;
+            }
+            try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+                long size = sourceChannel.size();
+                long position = 0;
+                while (position < size) {
+                    position += sourceChannel.transferTo(position, size - position, channel);
+                }
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void put(String path, ProjectFile file) {
+        String normalized = normalize(path);
+        deleted.remove(normalized);
+        files.put(normalized, file);
+    }
+
+    private ProjectFile get(String path) throws NoSuchFileException {
+        ProjectFile file = files.get(normalize(path));
+        if (file == null) {
+            throw new NoSuchFileException(path);
+        }
+        return file;
+    }
+
+    private static String normalize(String path) {
+        String normalized = path.replace('\\', '/');
+        int start = 0;
+        while (start < normalized.length() && normalized.charAt(start) == '/') {
+            start++;
+        }
+        int end = normalized.length();
+        while (end > start && normalized.charAt(end - 1) == '/') {
+            end--;
+        }
+        return normalized.substring(start, end);
+    }
+
+    /**
+     * A file of the tree, either held in memory or copied from a source file, preceded by a prefix.
+     */
+    private record ProjectFile(byte[] prefix, @Nullable byte[] content, @Nullable Path source, boolean executable) {
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.starter.io.OutputHandler;
+import io.micronaut.starter.template.Template;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Micronaut Starter {@link OutputHandler} which writes the generated project into a directory of a {@link ProjectTree}.
+ */
+@Internal
+final class ProjectTreeOutputHandler implements OutputHandler {
+    private final ProjectTree projectTree;
+    private final String directory;
+
+    /**
+     * Constructs a new ProjectTreeOutputHandler.
+     *
+     * @param projectTree the tree
+     * @param directory   the directory of the tree where the project is generated, empty for the tree root
+     */
+    ProjectTreeOutputHandler(ProjectTree projectTree, String directory) {
+        this.projectTree = projectTree;
+        this.directory = directory;
+    }
+
+    @Override
+    public boolean exists(String path) {
+        return projectTree.exists(ProjectTree.resolve(directory, path));
+    }
+
+    @Override
+    public void write(String path, Template contents) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        contents.write(outputStream);
+        projectTree.write(ProjectTree.resolve(directory, path), outputStream.toByteArray(), contents.isExecutable());
+    }
+
+    /**
+     * Returns the directory of the tree where the project is generated.
+     *
+     * @return the directory of the tree where the project is generated
+     */
+    public String getOutputLocation() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+    }
+}
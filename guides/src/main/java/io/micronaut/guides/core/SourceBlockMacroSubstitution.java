@@ -19,7 +19,6 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.guides.core.asciidoc.*;
 
 import java.nio.file.Path;
-import java.util.Optional;
 
 import static io.micronaut.guides.core.MacroUtils.*;
 import static io.micronaut.guides.core.asciidoc.IncludeDirective.ATTRIBUTE_LINES;
@@ -76,54 +75,59 @@ abstract class SourceBlockMacroSubstitution implements MacroSubstitution {
 
     @Override
     public String substitute(String str, Guide guide, GuidesOption option) {
+        AsciidocDocument document = AsciidocDocument.parse(str);
+        substitute(document, guide, option);
+        return document.toString();
+    }
+
+    @Override
+    public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
+        document.replaceMacros(getMacroName(), node -> node.getMacro()
+                .map(asciidocMacro -> replacement(asciidocMacro, guide, option))
+                .orElse(null));
+    }
+
+    private String replacement(AsciidocMacro asciidocMacro, Guide guide, GuidesOption option) {
         String slug = guide.getSlug();
-        for (String line : findMacroLines(str, getMacroName())) {
-            Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(getMacroName(), line);
-            if (asciidocMacroOptional.isPresent()) {
-                AsciidocMacro asciidocMacro = asciidocMacroOptional.get();
-                String appName = appName(asciidocMacro);
-
-                String condensedTarget = condensedTarget(asciidocMacro, option);
-                String[] arr;
-                int lastIndex = condensedTarget.lastIndexOf('.');
-                if (lastIndex != -1 && lastIndex != condensedTarget.length() - 1) {
-                    String prefix = condensedTarget.substring(0, lastIndex);
-                    String extension = condensedTarget.substring(lastIndex + 1);
-                    arr = new String[]{prefix, extension};
-                } else {
-                    arr = new String[]{condensedTarget};
-                }
-                String language = getLanguage(option);
-                String extension = getExtension(option);
-
-                if (arr.length == 2) {
-                    language = arr[arr.length - 1];
-                    language = resolveAsciidoctorLanguage(language);
-                } else {
-                    condensedTarget = condensedTarget + "." + extension;
-                }
-
-                String target = sourceInclude(slug, appName, condensedTarget, getClasspath(), option, language, getGuidesConfiguration().getPackageName());
-                String title = Path.of(target).normalize().toString().replace("{sourceDir}/" + slug + "/", "").replace(getSourceDir(slug, option) + "/", "");
-
-                IncludeDirective.Builder includeDirectiveBuilder = IncludeDirective.builder().attributes(asciidocMacro.attributes())
-                        .target(target);
-                if (getFileType() == FileType.CODE) {
-                    Range range = new Range(getLicenseLoader().getNumberOfLines(), -1);
-                    if (range.isValid() && asciidocMacro.attributes().stream().noneMatch(attribute -> attribute.key().equals(ATTRIBUTE_LINES))) {
-                        includeDirectiveBuilder.lines(range);
-                    }
-                }
-                String replacement = SourceBlock.builder()
-                        .title(title)
-                        .language(language)
-                        .includeDirective(includeDirectiveBuilder.build())
-                        .build()
-                        .toString();
-                str = str.replace(line, replacement);
+        String appName = appName(asciidocMacro);
+
+        String condensedTarget = condensedTarget(asciidocMacro, option);
+        String[] arr;
+        int lastIndex = condensedTarget.lastIndexOf('.');
+        if (lastIndex != -1 && lastIndex != condensedTarget.length() - 1) {
+            String prefix = condensedTarget.substring(0, lastIndex);
+            String extension = condensedTarget.substring(lastIndex + 1);
+            arr = new String[]{prefix, extension};
+        } else {
+            arr = new String[]{condensedTarget};
+        }
+        String language = getLanguage(option);
+        String extension = getExtension(option);
+
+        if (arr.length == 2) {
+            language = arr[arr.length - 1];
+            language = resolveAsciidoctorLanguage(language);
+        } else {
+            condensedTarget = condensedTarget + "." + extension;
+        }
+
+        String target = sourceInclude(slug, appName, condensedTarget, getClasspath(), option, language, getGuidesConfiguration().getPackageName());
+        String title = Path.of(target).normalize().toString().replace("{sourceDir}/" + slug + "/", "").replace(getSourceDir(slug, option) + "/", "");
+
+        IncludeDirective.Builder includeDirectiveBuilder = IncludeDirective.builder().attributes(asciidocMacro.attributes())
+                .target(target);
+        if (getFileType() == FileType.CODE) {
+            Range range = new Range(getLicenseLoader().getNumberOfLines(), -1);
+            if (range.isValid() && asciidocMacro.attributes().stream().noneMatch(attribute -> attribute.key().equals(ATTRIBUTE_LINES))) {
+                includeDirectiveBuilder.lines(range);
             }
         }
-        return str;
+        return SourceBlock.builder()
+                .title(title)
+                .language(language)
+                .includeDirective(includeDirectiveBuilder.build())
+                .build()
+                .toString();
     }
 
     /**
@@ -20,6 +20,7 @@ import jakarta.validation.constraints.NotNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * Interface for generating the guides website assets from the specified input directory to the specified output directory.
@@ -36,4 +37,34 @@ public interface WebsiteGenerator {
     void generate(
             @NonNull @NotNull File inputDirectory,
             @NonNull @NotNull File outputDirectory) throws IOException;
+
+    /**
+     * Regenerates the guides website assets after some of the inputs changed. Only the guides whose inputs changed since the
+     * previous generation are regenerated, the index and the feeds are always regenerated.
+     *
+     * @param inputDirectory  the directory containing the source files for the website
+     * @param outputDirectory the directory where the generated website will be written
+     * @throws IOException if an I/O error occurs during generation
+     */
+    default void regenerate(
+            @NonNull @NotNull File inputDirectory,
+            @NonNull @NotNull File outputDirectory) throws IOException {
+        generate(inputDirectory, outputDirectory);
+    }
+
+    /**
+     * Regenerates the guides website assets after files of some guide directories changed. Only these guides, and the guides
+     * extending them, are hashed and regenerated; the shared inputs are assumed unchanged. The index and the feeds are always regenerated.
+     *
+     * @param inputDirectory  the directory containing the source files for the website
+     * @param outputDirectory the directory where the generated website will be written
+     * @param slugs           the slugs of the guides whose directory changed
+     * @throws IOException if an I/O error occurs during generation
+     */
+    default void regenerate(
+            @NonNull @NotNull File inputDirectory,
+            @NonNull @NotNull File outputDirectory,
+            @NonNull @NotNull Set<String> slugs) throws IOException {
+        regenerate(inputDirectory, outputDirectory);
+    }
 }
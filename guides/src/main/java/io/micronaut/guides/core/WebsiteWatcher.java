@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.NonNull;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Interface for keeping the guides website up to date while the sources are being edited.
+ */
+public interface WebsiteWatcher {
+
+    /**
+     * Generates the guides website assets and regenerates them whenever a file of the input directory changes.
+     * This method blocks until the current thread is interrupted.
+     *
+     * @param inputDirectory  the directory containing the source files for the website
+     * @param outputDirectory the directory where the generated website will be written
+     * @throws IOException if the input directory cannot be watched
+     */
+    default void watch(@NonNull @NotNull File inputDirectory, @NonNull @NotNull File outputDirectory) throws IOException {
+        watch(inputDirectory, outputDirectory, () -> { });
+    }
+
+    /**
+     * Generates the guides website assets and regenerates them whenever a file of the input directory changes.
+     * This method blocks until the current thread is interrupted.
+     *
+     * @param inputDirectory     the directory containing the source files for the website
+     * @param outputDirectory    the directory where the generated website will be written
+     * @param afterRegeneration  called after each generation of the website, e.g. to report and reset per build statistics
+     * @throws IOException if the input directory cannot be watched
+     */
+    void watch(@NonNull @NotNull File inputDirectory,
+               @NonNull @NotNull File outputDirectory,
+               @NonNull @NotNull Runnable afterRegeneration) throws IOException;
+
+    /**
+     * Notifies the listener whenever files of the input directory change. Changes in the excluded directory are ignored.
+     * This method blocks until the current thread is interrupted.
+     *
+     * @param inputDirectory    the directory to watch
+     * @param excludedDirectory the directory whose changes are ignored, typically the output directory
+     * @param listener          the listener notified with the changed paths, once the file system is quiet
+     * @throws IOException if the input directory cannot be watched
+     */
+    void watch(@NonNull @NotNull File inputDirectory,
+               @NonNull @NotNull File excludedDirectory,
+               @NonNull @NotNull Consumer<Set<Path>> listener) throws IOException;
+}
@@ -127,4 +127,19 @@ public interface AsciidocConfiguration {
      * @return the callouts directory
      */
     String getCalloutsDir();
+
+    /**
+     * Returns the maximum number of Asciidoctor instances used to convert documents concurrently, or 0 to derive it from the guides
+     * parallelism.
+     *
+     * @return the maximum number of Asciidoctor instances
+     */
+    int getPoolSize();
+
+    /**
+     * Returns whether Asciidoctor instances convert a sample document when they are created.
+     *
+     * @return true if Asciidoctor instances are warmed up, false otherwise
+     */
+    boolean isWarmUp();
 }
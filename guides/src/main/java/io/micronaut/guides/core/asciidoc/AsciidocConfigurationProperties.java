@@ -44,6 +44,8 @@ public class AsciidocConfigurationProperties implements AsciidocConfiguration {
     private static final String DEFAULT_COMMONS_DIR = "src/docs/asciidoc/common";
     private static final String DEFAULT_CALLOUTS_DIR = "src/docs/asciidoc/callouts";
     private static final String DEFAULT_BASE_DIR = "";
+    private static final int DEFAULT_POOL_SIZE = 0;
+    private static final boolean DEFAULT_WARM_UP = true;
 
     private String sourceHighlighter = DEFAULT_SOURCE_HIGHLIGHTER;
     private Placement toc = DEFAULT_TOC;
@@ -60,6 +62,8 @@ public class AsciidocConfigurationProperties implements AsciidocConfiguration {
     private String commonsDir = DEFAULT_COMMONS_DIR;
     private String baseDir = DEFAULT_BASE_DIR;
     private String calloutsDir = DEFAULT_CALLOUTS_DIR;
+    private int poolSize = DEFAULT_POOL_SIZE;
+    private boolean warmUp = DEFAULT_WARM_UP;
 
     /**
      * Gets the source highlighter.
@@ -345,4 +349,43 @@ public class AsciidocConfigurationProperties implements AsciidocConfiguration {
     public void setCalloutsDir(String calloutsDir) {
         this.calloutsDir = calloutsDir;
     }
+
+    /**
+     * Gets the maximum number of Asciidoctor instances. Instances are created on demand, thus sequential conversions use a single instance.
+     *
+     * @return the maximum number of Asciidoctor instances
+     */
+    @Override
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Sets the maximum number of Asciidoctor instances. Defaults to 0, which uses {@code guides.parallelism} instances when guides
+     * are generated in parallel and a single instance otherwise.
+     *
+     * @param poolSize the maximum number of Asciidoctor instances
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Checks if Asciidoctor instances are warmed up by a sample conversion when they are created.
+     *
+     * @return true if Asciidoctor instances are warmed up, false otherwise
+     */
+    @Override
+    public boolean isWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * Sets whether Asciidoctor instances are warmed up by a sample conversion when they are created. Defaults to true.
+     *
+     * @param warmUp true to warm up Asciidoctor instances, false otherwise
+     */
+    public void setWarmUp(boolean warmUp) {
+        this.warmUp = warmUp;
+    }
 }
@@ -40,4 +40,19 @@ public interface AsciidocConverter {
                    @NonNull @NotNull File baseDir,
                    @NonNull @NotBlank String sourceDir,
                    @NonNull @NotBlank String guideSourceDir);
+
+    /**
+     * Converts the source Asciidoc and renders its table of contents from the document sections, apart from the body.
+     *
+     * @param asciidoc the source Asciidoc, must not be null
+     * @param baseDir Base directory for asciidoc
+     * @param sourceDir the directory where all the projects source code has been generated
+     * @param guideSourceDir the directory where the source code for the guide option has been generated
+     * @return the table of contents and the body without it
+     */
+    @NonNull
+    AsciidocHtml convertWithToc(@NonNull @NotBlank String asciidoc,
+                                @NonNull @NotNull File baseDir,
+                                @NonNull @NotBlank String sourceDir,
+                                @NonNull @NotBlank String guideSourceDir);
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core.asciidoc;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * AsciidocDocument is an asciidoc document lexed once into a list of {@link AsciidocNode}, one per line.
+ * Macro substitutions edit the nodes in place and the document is serialized once with {@link #toString()}.
+ * Text inserted by a substitution is lexed as well, so later substitutions see the macros it contains.
+ */
+public final class AsciidocDocument {
+    private static final char LINE_BREAK = '\n';
+
+    private List<AsciidocNode> nodes;
+    private int replacements;
+
+    private AsciidocDocument(List<AsciidocNode> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Lexes an asciidoc document.
+     *
+     * @param asciidoc the asciidoc
+     * @return the lexed document
+     */
+    @NonNull
+    public static AsciidocDocument parse(@NonNull String asciidoc) {
+        List<AsciidocNode> nodes = new ArrayList<>();
+        lex(asciidoc, nodes);
+        return new AsciidocDocument(nodes);
+    }
+
+    /**
+     * @return the document nodes
+     */
+    @NonNull
+    public List<AsciidocNode> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * Returns the number of nodes, groups and blocks replaced by the operations of this document. The content replaced
+     * with {@link #replaceContent(String)} is not counted.
+     *
+     * @return the number of replacements since the document was lexed or copied
+     */
+    public int getReplacements() {
+        return replacements;
+    }
+
+    /**
+     * Replaces the line macros with the given name.
+     *
+     * @param name        the macro name
+     * @param replacement function returning the replacement text for a macro node, or null to keep the node
+     */
+    public void replaceMacros(@NonNull String name, @NonNull Function<AsciidocNode, String> replacement) {
+        replaceNodes(node -> node.is(AsciidocNode.Kind.MACRO, name), replacement);
+    }
+
+    /**
+     * Applies an inline substitution, e.g. placeholders, to the text of every node.
+     *
+     * @param operator the substitution applied to the text of each node
+     */
+    public void replaceText(@NonNull UnaryOperator<String> operator) {
+        replaceNodes(node -> true, node -> {
+            String text = node.getText();
+            String result = operator.apply(text);
+            return result.equals(text) ? null : result;
+        });
+    }
+
+    /**
+     * Resolves the nested macro groups with the given name, e.g. {@code :exclude-for-build:maven} ... {@code :exclude-for-build:}.
+     * The markers of a kept group are removed. Excluded groups are removed entirely.
+     *
+     * @param name    the group name
+     * @param exclude predicate receiving the group start parameters, returns true if the group must be excluded
+     */
+    public void resolveGroups(@NonNull String name, @NonNull Predicate<List<String>> exclude) {
+        int size = nodes.size();
+        boolean[] removed = new boolean[size];
+        boolean[] blank = new boolean[size];
+        Deque<Integer> starts = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            AsciidocNode node = nodes.get(i);
+            if (node.is(AsciidocNode.Kind.GROUP_START, name)) {
+                starts.push(i);
+            } else if (node.is(AsciidocNode.Kind.GROUP_END, name)) {
+                if (starts.isEmpty()) {
+                    throw new UnsupportedOperationException("Unbalanced macro group");
+                }
+                int start = starts.pop();
+                replacements++;
+                if (exclude.test(nodes.get(start).getParameters())) {
+                    for (int j = start; j <= i; j++) {
+                        removed[j] = true;
+                    }
+                } else if (start + 1 == i) {
+                    // an empty group leaves an empty line
+                    removed[start] = true;
+                    blank[i] = true;
+                } else {
+                    removed[start] = true;
+                    removed[i] = true;
+                }
+            }
+        }
+        List<AsciidocNode> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (blank[i] && !removed[i]) {
+                result.add(AsciidocNode.of(""));
+            } else if (!removed[i]) {
+                result.add(nodes.get(i));
+            }
+        }
+        nodes = result;
+    }
+
+    /**
+     * Replaces the blocks delimited by a pair of markers, e.g. {@code :dependencies:} ... {@code :dependencies:}.
+     * Markers without a closing marker are kept.
+     *
+     * @param name        the marker name
+     * @param replacement function receiving the lines between the markers and returning the replacement text
+     */
+    public void replaceBlocks(@NonNull String name, @NonNull Function<List<String>, String> replacement) {
+        List<AsciidocNode> result = new ArrayList<>(nodes.size());
+        int start = -1;
+        for (int i = 0; i < nodes.size(); i++) {
+            AsciidocNode node = nodes.get(i);
+            if (!node.is(AsciidocNode.Kind.GROUP_END, name)) {
+                if (start == -1) {
+                    result.add(node);
+                }
+            } else if (start == -1) {
+                start = i;
+            } else {
+                List<String> lines = nodes.subList(start + 1, i).stream().map(AsciidocNode::getText).toList();
+                lex(replacement.apply(lines), result);
+                replacements++;
+                start = -1;
+            }
+        }
+        if (start != -1) {
+            result.addAll(nodes.subList(start, nodes.size()));
+        }
+        nodes = result;
+    }
+
+    /**
+     * Replaces the content of the document.
+     *
+     * @param asciidoc the new asciidoc
+     */
+    public void replaceContent(@NonNull String asciidoc) {
+        List<AsciidocNode> result = new ArrayList<>();
+        lex(asciidoc, result);
+        nodes = result;
+    }
+
+    /**
+     * Copies the document, e.g. to substitute it once per guide option. The copy shares the immutable nodes, thus the macros
+     * parsed by a copy are not parsed again by the others. A document which is no longer modified can be copied concurrently.
+     *
+     * @return a copy of the document sharing the immutable nodes
+     */
+    @NonNull
+    public AsciidocDocument copy() {
+        return new AsciidocDocument(new ArrayList<>(nodes));
+    }
+
+    @Override
+    public String toString() {
+        int length = nodes.size();
+        for (AsciidocNode node : nodes) {
+            length += node.getText().length();
+        }
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i > 0) {
+                sb.append(LINE_BREAK);
+            }
+            sb.append(nodes.get(i).getText());
+        }
+        return sb.toString();
+    }
+
+    private void replaceNodes(Predicate<AsciidocNode> matches, Function<AsciidocNode, String> replacement) {
+        List<AsciidocNode> result = null;
+        for (int i = 0; i < nodes.size(); i++) {
+            AsciidocNode node = nodes.get(i);
+            String text = matches.test(node) ? replacement.apply(node) : null;
+            if (text != null && result == null) {
+                result = new ArrayList<>(nodes.size() + 16);
+                result.addAll(nodes.subList(0, i));
+            }
+            if (result != null) {
+                if (text != null) {
+                    lex(text, result);
+                    replacements++;
+                } else {
+                    result.add(node);
+                }
+            }
+        }
+        if (result != null) {
+            nodes = result;
+        }
+    }
+
+    /**
+     * Splits the asciidoc into lines. As {@link String#lines()} does, a carriage return before a line feed is part of the line break.
+     */
+    private static void lex(@Nullable String asciidoc, List<AsciidocNode> nodes) {
+        String str = asciidoc != null ? asciidoc : "";
+        int start = 0;
+        int end;
+        while ((end = str.indexOf(LINE_BREAK, start)) != -1) {
+            int lineEnd = end > start && str.charAt(end - 1) == '\r' ? end - 1 : end;
+            nodes.add(AsciidocNode.of(str.substring(start, lineEnd)));
+            start = end + 1;
+        }
+        nodes.add(AsciidocNode.of(str.substring(start)));
+    }
+}
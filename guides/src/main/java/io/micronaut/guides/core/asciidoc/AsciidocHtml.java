@@ -0,0 +1,27 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core.asciidoc;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * The HTML of a converted Asciidoc document, with the table of contents rendered apart from the document body.
+ *
+ * @param toc     the table of contents HTML, empty if the document has no table of contents
+ * @param content the document body HTML, without the table of contents
+ */
+public record AsciidocHtml(@NonNull String toc, @NonNull String content) {
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core.asciidoc;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AsciidocNode is an immutable line of an {@link AsciidocDocument}, classified by the lexer as text, macro or macro group marker.
+ * Macro lines, e.g. {@code source:HelloController[]}, are parsed into an {@link AsciidocMacro} the first time they are requested.
+ */
+public final class AsciidocNode {
+    private static final char COLON = ':';
+    private static final String PARAMETER_SEPARATOR = ",";
+
+    private final String text;
+    private final Kind kind;
+    private final String name;
+    private final List<String> parameters;
+    private volatile Optional<AsciidocMacro> macro;
+
+    private AsciidocNode(String text, Kind kind, String name, List<String> parameters) {
+        this.text = text;
+        this.kind = kind;
+        this.name = name;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Lexes a single line.
+     *
+     * @param line a line without line breaks
+     * @return the node for the line
+     */
+    @NonNull
+    public static AsciidocNode of(@NonNull String line) {
+        if (!line.isEmpty() && line.charAt(0) == COLON) {
+            int nameEnd = nameEnd(line, 1);
+            if (nameEnd > 1 && nameEnd < line.length() && line.charAt(nameEnd) == COLON) {
+                String name = line.substring(1, nameEnd);
+                String rest = line.substring(nameEnd + 1);
+                if (rest.isEmpty()) {
+                    return new AsciidocNode(line, Kind.GROUP_END, name, Collections.emptyList());
+                }
+                if (isGroupParameters(rest)) {
+                    List<String> parameters = Arrays.stream(rest.split(PARAMETER_SEPARATOR)).filter(el -> !el.isEmpty()).toList();
+                    return new AsciidocNode(line, Kind.GROUP_START, name, parameters);
+                }
+            }
+        } else {
+            int nameEnd = nameEnd(line, 0);
+            if (nameEnd > 0 && nameEnd < line.length() && line.charAt(nameEnd) == COLON) {
+                return new AsciidocNode(line, Kind.MACRO, line.substring(0, nameEnd), Collections.emptyList());
+            }
+        }
+        return new AsciidocNode(line, Kind.TEXT, null, Collections.emptyList());
+    }
+
+    /**
+     * @return the line text
+     */
+    @NonNull
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return the node kind
+     */
+    @NonNull
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the macro or group name, null for text nodes
+     */
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the parameters of a group start, e.g. {@code maven} for {@code :exclude-for-build:maven}
+     */
+    @NonNull
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Checks whether this node is the given kind of node with the given name.
+     *
+     * @param kind the node kind
+     * @param name the macro or group name
+     * @return true if the node matches
+     */
+    public boolean is(@NonNull Kind kind, @NonNull String name) {
+        return this.kind == kind && name.equals(this.name);
+    }
+
+    /**
+     * @return the parsed macro, empty if this node is not a macro or the macro is malformed
+     */
+    @NonNull
+    public Optional<AsciidocMacro> getMacro() {
+        Optional<AsciidocMacro> result = macro;
+        if (result == null) {
+            result = kind == Kind.MACRO ? AsciidocMacro.of(name, text) : Optional.empty();
+            macro = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private static int nameEnd(String line, int start) {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isGroupParameters(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == ',';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Kind of node.
+     */
+    public enum Kind {
+        /**
+         * Plain asciidoc line.
+         */
+        TEXT,
+        /**
+         * Line macro, e.g. {@code source:HelloController[]}.
+         */
+        MACRO,
+        /**
+         * Start of a macro group, e.g. {@code :exclude-for-build:maven}.
+         */
+        GROUP_START,
+        /**
+         * End of a macro group, e.g. {@code :exclude-for-build:}.
+         */
+        GROUP_END
+    }
+}
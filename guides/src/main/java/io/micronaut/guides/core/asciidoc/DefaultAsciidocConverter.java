@@ -17,46 +17,70 @@ package io.micronaut.guides.core.asciidoc;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.guides.core.GuidesConfiguration;
+import io.micronaut.guides.core.jfr.AsciidocConversionEvent;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Singleton;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.asciidoctor.*;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.Section;
+import org.asciidoctor.ast.StructuralNode;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 /**
  * DefaultAsciidocConverter is a singleton class that implements the AsciidocConverter interface.
  * It provides methods to convert Asciidoc files to html using Asciidoctor.
+ * Asciidoctor instances are expensive to create and not safe to use concurrently, thus they are pooled. One instance is created at
+ * startup, the others on demand up to the pool size, which defaults to {@link GuidesConfiguration#getParallelism()} when guides are
+ * generated in parallel and to a single instance otherwise. When {@link AsciidocConfiguration#isWarmUp()} is enabled, every instance
+ * converts a sample document when it is created. Every conversion builds its own options and emits an {@link AsciidocConversionEvent}.
+ * {@link #convertWithToc(String, File, String, String)} loads the document, renders its body with the table of contents placed
+ * by macro, thus omitted, and renders the table of contents from the document sections as the Asciidoctor HTML5 converter does.
  */
 @Singleton
 public class DefaultAsciidocConverter implements AsciidocConverter {
+    private static final String WARM_UP_ASCIIDOC = """
+            = Warm up
 
-    OptionsBuilder optionsBuilder;
-    AttributesBuilder attributesBuilder;
+            == Section
 
-    Asciidoctor asciidoctor;
+            [source,java]
+            ----
+            class WarmUp {
+            }
+            ----
+            """;
+    private static final String ATTRIBUTE_TOC = "toc";
+    private static final int DEFAULT_TOCLEVELS = 2;
+    private static final int DEFAULT_SECTNUMLEVELS = 3;
+    private static final Pattern ANCHOR = Pattern.compile("<(?:a\\b[^>]*|/a)>");
 
-    DefaultAsciidocConverter(AsciidocConfiguration asciidocConfiguration) {
-        attributesBuilder = Attributes.builder()
-                .sourceHighlighter(asciidocConfiguration.getSourceHighlighter())
-                .tableOfContents(asciidocConfiguration.getToc())
-                .attribute("toclevels", asciidocConfiguration.getToclevels())
-                .attribute("toc-title", "")
-                .sectionNumbers(asciidocConfiguration.getSectnums())
-                .attribute("idprefix", asciidocConfiguration.getIdprefix())
-                .attribute("idseparator", asciidocConfiguration.getIdseparator())
-                .icons(asciidocConfiguration.getIcons()).imagesDir(asciidocConfiguration.getImagesdir())
-                .noFooter(asciidocConfiguration.isNofooter());
+    private final AsciidocConfiguration asciidocConfiguration;
+    private final GuidesConfiguration guidesConfiguration;
+    private final BlockingQueue<Asciidoctor> idle = new LinkedBlockingQueue<>();
+    private final List<Asciidoctor> instances = new ArrayList<>();
+    private final AtomicInteger created = new AtomicInteger();
 
-        optionsBuilder = Options.builder()
-                .eruby(asciidocConfiguration.getRuby())
-                .safe(SafeMode.UNSAFE);
-
-        if (StringUtils.isNotEmpty(asciidocConfiguration.getBaseDir())) {
-            optionsBuilder.baseDir(new File(asciidocConfiguration.getBaseDir()));
+    DefaultAsciidocConverter(AsciidocConfiguration asciidocConfiguration, GuidesConfiguration guidesConfiguration) {
+        this.asciidocConfiguration = asciidocConfiguration;
+        this.guidesConfiguration = guidesConfiguration;
+        created.incrementAndGet();
+        try {
+            idle.add(create());
+        } catch (RuntimeException e) {
+            close();
+            throw e;
         }
-
-        asciidoctor = Asciidoctor.Factory.create();
     }
 
     @Override
@@ -64,11 +88,193 @@ public class DefaultAsciidocConverter implements AsciidocConverter {
                           @NonNull @NotNull File baseDir,
                           @NonNull @NotBlank String sourceDir,
                           @NonNull @NotBlank String guideSourceDir) {
-        return asciidoctor.convert(asciidoc, optionsBuilder
+        AsciidocConversionEvent event = new AsciidocConversionEvent();
+        event.begin();
+        Asciidoctor asciidoctor = acquire();
+        String html;
+        try {
+            html = asciidoctor.convert(asciidoc, options(baseDir, sourceDir, guideSourceDir, false));
+        } finally {
+            idle.add(asciidoctor);
+        }
+        commit(event, asciidoc, guideSourceDir, html);
+        return html;
+    }
+
+    @Override
+    @NonNull
+    public AsciidocHtml convertWithToc(@NonNull @NotBlank String asciidoc,
+                                       @NonNull @NotNull File baseDir,
+                                       @NonNull @NotBlank String sourceDir,
+                                       @NonNull @NotBlank String guideSourceDir) {
+        AsciidocConversionEvent event = new AsciidocConversionEvent();
+        event.begin();
+        Asciidoctor asciidoctor = acquire();
+        AsciidocHtml html;
+        try {
+            Document document = asciidoctor.load(asciidoc, options(baseDir, sourceDir, guideSourceDir, true));
+            html = new AsciidocHtml(toc(document), document.convert());
+        } finally {
+            idle.add(asciidoctor);
+        }
+        commit(event, asciidoc, guideSourceDir, html.toc() + html.content());
+        return html;
+    }
+
+    private static void commit(AsciidocConversionEvent event, String asciidoc, String guideSourceDir, String html) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.guideSourceDirectory = guideSourceDir;
+            event.bytes = asciidoc.getBytes(StandardCharsets.UTF_8).length;
+            event.htmlBytes = html.getBytes(StandardCharsets.UTF_8).length;
+            event.commit();
+        }
+    }
+
+    /**
+     * Renders the table of contents of the document, as the embedded HTML5 conversion of Asciidoctor does.
+     */
+    private static String toc(Document document) {
+        List<Section> sections = sections(document);
+        if (!document.hasAttribute(ATTRIBUTE_TOC) || sections.isEmpty()) {
+            return "";
+        }
+        int toclevels = intAttribute(document, "toclevels", DEFAULT_TOCLEVELS);
+        int sectnumlevels = intAttribute(document, "sectnumlevels", DEFAULT_SECTNUMLEVELS);
+        StringBuilder toc = new StringBuilder("<div id=\"toc\" class=\"toc\">\n<div id=\"toctitle\">")
+                .append(document.getAttribute("toc-title", ""))
+                .append("</div>\n");
+        outline(sections, toclevels, sectnumlevels, toc);
+        return toc.append("\n</div>").toString();
+    }
+
+    private static void outline(List<Section> sections, int toclevels, int sectnumlevels, StringBuilder toc) {
+        toc.append("<ul class=\"sectlevel").append(sections.get(0).getLevel()).append("\">\n");
+        for (Section section : sections) {
+            toc.append("<li><a href=\"#").append(section.getId()).append("\">").append(title(section, sectnumlevels)).append("</a>");
+            List<Section> children = sections(section);
+            if (section.getLevel() < toclevels && !children.isEmpty()) {
+                toc.append('\n');
+                outline(children, toclevels, sectnumlevels, toc);
+                toc.append('\n');
+            }
+            toc.append("</li>\n");
+        }
+        toc.append("</ul>");
+    }
+
+    private static String title(Section section, int sectnumlevels) {
+        String title;
+        if (section.getCaption() != null) {
+            title = section.getCaption() + section.getTitle();
+        } else if (section.isNumbered() && section.getLevel() <= sectnumlevels) {
+            title = section.getSectnum() + " " + section.getTitle();
+        } else {
+            title = section.getTitle();
+        }
+        return title.contains("<a") ? ANCHOR.matcher(title).replaceAll("") : title;
+    }
+
+    private static List<Section> sections(StructuralNode node) {
+        List<Section> sections = new ArrayList<>();
+        for (StructuralNode block : node.getBlocks()) {
+            if (block instanceof Section section) {
+                sections.add(section);
+            }
+        }
+        return sections;
+    }
+
+    private static int intAttribute(Document document, String name, int defaultValue) {
+        return Integer.parseInt(String.valueOf(document.getAttribute(name, defaultValue)));
+    }
+
+    /**
+     * Shuts down the pooled Asciidoctor instances.
+     */
+    @PreDestroy
+    void close() {
+        synchronized (instances) {
+            instances.forEach(Asciidoctor::shutdown);
+            instances.clear();
+        }
+        idle.clear();
+    }
+
+    private Asciidoctor acquire() {
+        Asciidoctor asciidoctor = idle.poll();
+        if (asciidoctor != null) {
+            return asciidoctor;
+        }
+        int poolSize = poolSize();
+        for (int count = created.get(); count < poolSize; count = created.get()) {
+            if (created.compareAndSet(count, count + 1)) {
+                try {
+                    return create();
+                } catch (RuntimeException e) {
+                    created.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+        try {
+            return idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an Asciidoctor instance", e);
+        }
+    }
+
+    private int poolSize() {
+        if (asciidocConfiguration.getPoolSize() > 0) {
+            return asciidocConfiguration.getPoolSize();
+        }
+        return guidesConfiguration.isParallel() ? Math.max(guidesConfiguration.getParallelism(), 1) : 1;
+    }
+
+    /**
+     * Returns the number of Asciidoctor instances created by the pool.
+     */
+    int size() {
+        synchronized (instances) {
+            return instances.size();
+        }
+    }
+
+    private Asciidoctor create() {
+        Asciidoctor asciidoctor = Asciidoctor.Factory.create();
+        synchronized (instances) {
+            instances.add(asciidoctor);
+        }
+        if (asciidocConfiguration.isWarmUp()) {
+            File baseDir = new File(StringUtils.isNotEmpty(asciidocConfiguration.getBaseDir()) ? asciidocConfiguration.getBaseDir() : ".");
+            asciidoctor.convert(WARM_UP_ASCIIDOC, options(baseDir, baseDir.getPath(), baseDir.getPath(), false));
+        }
+        return asciidoctor;
+    }
+
+    private Options options(File baseDir, String sourceDir, String guideSourceDir, boolean tocApart) {
+        AttributesBuilder attributes = Attributes.builder()
+                .sourceHighlighter(asciidocConfiguration.getSourceHighlighter())
+                .tableOfContents(asciidocConfiguration.getToc())
+                .attribute("toclevels", asciidocConfiguration.getToclevels())
+                .attribute("toc-title", "")
+                .sectionNumbers(asciidocConfiguration.getSectnums())
+                .attribute("idprefix", asciidocConfiguration.getIdprefix())
+                .attribute("idseparator", asciidocConfiguration.getIdseparator())
+                .icons(asciidocConfiguration.getIcons()).imagesDir(asciidocConfiguration.getImagesdir())
+                .noFooter(asciidocConfiguration.isNofooter())
+                .attribute("sourcedir", sourceDir)
+                .attribute("guidesourcedir", guideSourceDir);
+        if (tocApart) {
+            attributes.attribute("toc-placement", "macro");
+        }
+        return Options.builder()
+                .eruby(asciidocConfiguration.getRuby())
+                .safe(SafeMode.UNSAFE)
                 .baseDir(baseDir)
                 .toFile(false)
-                .attributes(attributesBuilder.attribute("sourcedir", sourceDir).build())
-                .attributes(attributesBuilder.attribute("guidesourcedir", guideSourceDir).build())
-                .build());
+                .attributes(attributes.build())
+                .build();
     }
 }
@@ -25,14 +25,18 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Singleton
 @Internal
 class DefaultGuidePageGenerator implements GuidePageGenerator {
-    private final String guideHtml;
+    private final HtmlTemplate guideHtml;
 
     DefaultGuidePageGenerator(ResourceLoader resourceLoader,
                               GuidesTemplatesConfiguration guidesTemplatesConfiguration) {
@@ -42,7 +46,7 @@ class DefaultGuidePageGenerator implements GuidePageGenerator {
             throw new ConfigurationException(path);
         }
         try (InputStream inputStream = inputStreamOptional.get()) {
-            this.guideHtml = readInputStream(inputStream);
+            this.guideHtml = HtmlTemplate.compile(readInputStream(inputStream));
         } catch (Exception e) {
             throw new ConfigurationException("Error loading resource: " + path, e);
         }
@@ -56,7 +60,17 @@ class DefaultGuidePageGenerator implements GuidePageGenerator {
 
     @Override
     public String render(String toc, String html) {
-        return guideHtml.replace("{toc}", toc)
-                .replace("{content}", html);
+        StringWriter writer = new StringWriter(guideHtml.length() + toc.length() + html.length());
+        try {
+            render(writer, Map.of(SLOT_TOC, HtmlTemplate.Slot.of(toc), SLOT_CONTENT, HtmlTemplate.Slot.of(html)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    @Override
+    public void render(Writer writer, Map<String, HtmlTemplate.Slot> slots) throws IOException {
+        guideHtml.render(writer, slots);
     }
 }
@@ -18,10 +18,19 @@ package io.micronaut.guides.core.html;
 import io.micronaut.core.annotation.NonNull;
 import jakarta.validation.constraints.NotBlank;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
 /**
  * Render individual guide.
  */
 public interface GuidePageGenerator {
+    String SLOT_TOC = "toc";
+    String SLOT_CONTENT = "content";
+    String SLOT_TITLE = "title";
+    String SLOT_SECTION = "section";
+    String SLOT_SECTION_LINK = "section-link";
 
     /**
      * Renders a full HTML Page.
@@ -32,4 +41,13 @@ public interface GuidePageGenerator {
      */
     @NonNull
     String render(@NonNull @NotBlank String toc, @NonNull @NotBlank String html);
+
+    /**
+     * Streams a full HTML Page to the writer.
+     *
+     * @param writer the writer the page is rendered to
+     * @param slots  the values of the template placeholders, e.g. {@link #SLOT_TOC} or {@link #SLOT_CONTENT}, by name
+     * @throws IOException if an I/O error occurs while writing
+     */
+    void render(@NonNull Writer writer, @NonNull Map<String, HtmlTemplate.Slot> slots) throws IOException;
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core.html;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An HTML template compiled into literal segments and {@code {name}} slots. Rendering writes the literals and the slot values
+ * straight to a writer, instead of copying the whole page for every replaced placeholder.
+ * Placeholders without a value are written as they appear in the template.
+ */
+public final class HtmlTemplate {
+    private static final char SLOT_START = '{';
+    private static final char SLOT_END = '}';
+
+    private final String template;
+    private final List<Segment> segments;
+
+    private HtmlTemplate(String template, List<Segment> segments) {
+        this.template = template;
+        this.segments = segments;
+    }
+
+    /**
+     * Writes the value of a slot.
+     */
+    @FunctionalInterface
+    public interface Slot {
+
+        /**
+         * @param writer the writer the page is rendered to
+         * @throws IOException if an I/O error occurs
+         */
+        void write(@NonNull Writer writer) throws IOException;
+
+        /**
+         * @param value the slot text
+         * @return a slot writing the text
+         */
+        @NonNull
+        static Slot of(@NonNull String value) {
+            return writer -> writer.write(value);
+        }
+    }
+
+    /**
+     * Compiles a template. A slot is a name made of letters, digits and dashes enclosed in braces, e.g. {@code {section-link}}.
+     *
+     * @param template the template
+     * @return the compiled template
+     */
+    @NonNull
+    public static HtmlTemplate compile(@NonNull String template) {
+        List<Segment> segments = new ArrayList<>();
+        int literalStart = 0;
+        int start = template.indexOf(SLOT_START);
+        while (start != -1) {
+            int end = slotEnd(template, start + 1);
+            if (end == -1) {
+                start = template.indexOf(SLOT_START, start + 1);
+                continue;
+            }
+            if (start > literalStart) {
+                segments.add(new Segment(literalStart, start, null));
+            }
+            segments.add(new Segment(start, end + 1, template.substring(start + 1, end)));
+            literalStart = end + 1;
+            start = template.indexOf(SLOT_START, literalStart);
+        }
+        if (literalStart < template.length()) {
+            segments.add(new Segment(literalStart, template.length(), null));
+        }
+        return new HtmlTemplate(template, List.copyOf(segments));
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param writer the writer the template is rendered to
+     * @param slots  the slot values by name
+     * @throws IOException if an I/O error occurs
+     */
+    public void render(@NonNull Writer writer, @NonNull Map<String, Slot> slots) throws IOException {
+        for (Segment segment : segments) {
+            Slot slot = segment.name() != null ? slots.get(segment.name()) : null;
+            if (slot != null) {
+                slot.write(writer);
+            } else {
+                writer.write(template, segment.start(), segment.end() - segment.start());
+            }
+        }
+    }
+
+    /**
+     * @return the length of the template, slots included
+     */
+    public int length() {
+        return template.length();
+    }
+
+    private static int slotEnd(String template, int nameStart) {
+        int i = nameStart;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c == SLOT_END) {
+                return i > nameStart ? i : -1;
+            }
+            if (!Character.isLetterOrDigit(c) && c != '-') {
+                return -1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * A range of the template, either a literal or the slot with the given name.
+     */
+    private record Segment(int start, int end, String name) {
+    }
+}
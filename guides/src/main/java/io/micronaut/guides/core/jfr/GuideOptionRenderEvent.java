@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core.jfr;
+
+import io.micronaut.core.annotation.Internal;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Rendering of the HTML page of a guide option.
+ */
+@Internal
+@Name("io.micronaut.guides.GuideOptionRender")
+@Label("Guide Option Render")
+@Description("Rendering of the HTML page of a guide option")
+@Category("Micronaut Guides")
+public final class GuideOptionRenderEvent extends Event {
+    @Label("Guide")
+    public String slug;
+
+    @Label("Build Tool")
+    public String buildTool;
+
+    @Label("Language")
+    public String language;
+
+    @Label("HTML Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core.jfr;
+
+import io.micronaut.core.annotation.Internal;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Creation of the zip of a guide option project.
+ */
+@Internal
+@Name("io.micronaut.guides.Zip")
+@Label("Zip")
+@Description("Creation of the zip of a guide option project")
+@Category("Micronaut Guides")
+public final class ZipEvent extends Event {
+    @Label("Project")
+    public String project;
+
+    @Label("Entries")
+    public int entries;
+
+    @Label("Zip Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,36 @@
+package io.micronaut.guides.core;
+
+import io.micronaut.json.JsonMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+class BuildManifestTest {
+
+    @Inject
+    JsonMapper jsonMapper;
+
+    @Test
+    void testSaveAndLoad() throws Exception {
+        File outputDirectory = Files.createTempDirectory("micronaut-guides").toFile();
+
+        BuildManifest buildManifest = BuildManifest.load(jsonMapper, outputDirectory);
+        assertFalse(buildManifest.isUpToDate("micronaut-hello-world", "abc"));
+        buildManifest.put("micronaut-hello-world", "abc");
+        buildManifest.save(jsonMapper);
+        assertTrue(new File(outputDirectory, BuildManifest.FILENAME).exists());
+
+        buildManifest = BuildManifest.load(jsonMapper, outputDirectory);
+        assertFalse(new File(outputDirectory, BuildManifest.FILENAME).exists());
+        assertTrue(buildManifest.isUpToDate("micronaut-hello-world", "abc"));
+        assertFalse(buildManifest.isUpToDate("micronaut-hello-world", "def"));
+        assertFalse(buildManifest.isUpToDate("other-guide", "abc"));
+    }
+}
@@ -0,0 +1,43 @@
+package io.micronaut.guides.core;
+
+import io.micronaut.starter.api.TestFramework;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.Language;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BuildMetricsTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReportListsTheSlowestStagesGuidesAndOptions() {
+        Guide fast = new Guide();
+        fast.setSlug("fast");
+        Guide slow = new Guide();
+        slow.setSlug("slow");
+        GuidesOption gradleJava = new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT);
+        GuidesOption mavenKotlin = new GuidesOption(BuildTool.MAVEN, Language.KOTLIN, TestFramework.JUNIT);
+
+        BuildMetrics buildMetrics = new BuildMetrics();
+        long now = System.nanoTime();
+        buildMetrics.record(BuildStage.PARSE, null, null, now - TimeUnit.MILLISECONDS.toNanos(5));
+        buildMetrics.record(BuildStage.ZIP, fast, gradleJava, now - TimeUnit.MILLISECONDS.toNanos(10));
+        buildMetrics.record(BuildStage.ASCIIDOCTOR, slow, gradleJava, now - TimeUnit.MILLISECONDS.toNanos(100));
+        buildMetrics.record(BuildStage.ASCIIDOCTOR, slow, mavenKotlin, now - TimeUnit.MILLISECONDS.toNanos(200));
+
+        Map<String, Object> report = buildMetrics.report();
+
+        List<Map<String, Object>> stages = (List<Map<String, Object>>) report.get("stages");
+        assertEquals(List.of("ASCIIDOCTOR", "ZIP", "PARSE"), stages.stream().map(row -> row.get("stage")).toList());
+        assertEquals(2L, stages.get(0).get("count"));
+        List<Map<String, Object>> guides = (List<Map<String, Object>>) report.get("slowestGuides");
+        assertEquals(List.of("slow", "fast"), guides.stream().map(row -> row.get("guide")).toList());
+        List<Map<String, Object>> options = (List<Map<String, Object>>) report.get("slowestOptions");
+        assertEquals(List.of("maven-kotlin", "gradle-java", "gradle-java"), options.stream().map(row -> row.get("option")).toList());
+    }
+}
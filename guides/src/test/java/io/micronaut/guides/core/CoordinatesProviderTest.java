@@ -0,0 +1,34 @@
+package io.micronaut.guides.core;
+
+import io.micronaut.starter.build.dependencies.Coordinate;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest(startApplication = false)
+class CoordinatesProviderTest {
+
+    @Inject
+    CoordinatesProvider coordinatesProvider;
+
+    @Test
+    void testCoordinatesAreCached() {
+        Map<String, Coordinate> coordinates = coordinatesProvider.getCoordinates();
+        assertFalse(coordinates.isEmpty());
+        assertSame(coordinates, coordinatesProvider.getCoordinates());
+        assertThrows(UnsupportedOperationException.class, () -> coordinates.remove(coordinates.keySet().iterator().next()));
+
+        coordinatesProvider.refresh();
+        Map<String, Coordinate> refreshed = coordinatesProvider.getCoordinates();
+        assertNotSame(coordinates, refreshed);
+        assertEquals(coordinates.keySet(), refreshed.keySet());
+    }
+}
@@ -0,0 +1,36 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class CopyFileVisitorTest {
+
+    @Test
+    void testMirrorSkipsIdenticalFilesAndDeletesStaleFiles() throws Exception {
+        Path source = Files.createTempDirectory("micronaut-guides-source");
+        Files.createDirectories(source.resolve("src/main"));
+        Files.writeString(source.resolve("src/main/Application.java"), "class Application {}");
+        Files.writeString(source.resolve("README.md"), "readme");
+        Path target = Files.createTempDirectory("micronaut-guides-target");
+
+        Files.walkFileTree(source, new CopyFileVisitor(target, true));
+        FileTime copied = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(target.resolve("README.md"), copied);
+        Files.createDirectories(target.resolve("src/test"));
+        Files.writeString(target.resolve("src/test/Stale.java"), "class Stale {}");
+        Files.writeString(target.resolve("src/main/Application.java"), "class Changed {}");
+
+        Files.walkFileTree(source, new CopyFileVisitor(target, true));
+
+        assertEquals("class Application {}", Files.readString(target.resolve("src/main/Application.java")));
+        assertEquals(Files.getLastModifiedTime(source.resolve("README.md")), Files.getLastModifiedTime(target.resolve("README.md")));
+        assertEquals("readme", Files.readString(target.resolve("README.md")));
+        assertFalse(Files.exists(target.resolve("src/test")));
+    }
+}
@@ -5,10 +5,13 @@ import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -72,4 +75,25 @@ class FilesTransferUtilityTest {
         assertFalse(new File(outputDirectory, "/creating-your-first-micronaut-app-maven-kotlin/src/main/kotlin/example/micronaut/Application.kt").exists());
     }
 
+    @Test
+    void testAddLicenses() throws Exception {
+        LicenseLoader licenseLoader = new LicenseLoaderReplacement();
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        DefaultFilesTransferUtility transferUtility = new DefaultFilesTransferUtility(licenseLoader, guidesConfiguration);
+        Path source = Files.createTempFile("micronaut-guides", ".kt");
+        Files.writeString(source, "class Application");
+        String licensed = licenseLoader.getLicenseHeaderText() + "class HelloController";
+
+        ProjectTree projectTree = new ProjectTree();
+        projectTree.copy(source, "hello-gradle-kotlin/src/main/kotlin/Application.kt");
+        projectTree.write("hello-gradle-kotlin/src/main/kotlin/HelloController.kt", licensed.getBytes(StandardCharsets.UTF_8), false);
+        projectTree.write("hello-gradle-kotlin/build.gradle.kts", "plugins {}".getBytes(StandardCharsets.UTF_8), false);
+        transferUtility.addLicenses(projectTree, "hello-gradle-kotlin");
+
+        assertEquals(licenseLoader.getLicenseHeaderText() + "class Application",
+                new String(projectTree.read("hello-gradle-kotlin/src/main/kotlin/Application.kt"), StandardCharsets.UTF_8));
+        assertEquals(licensed, new String(projectTree.read("hello-gradle-kotlin/src/main/kotlin/HelloController.kt"), StandardCharsets.UTF_8));
+        assertEquals("plugins {}", new String(projectTree.read("hello-gradle-kotlin/build.gradle.kts"), StandardCharsets.UTF_8));
+        assertEquals("class Application", Files.readString(source));
+    }
 }
@@ -0,0 +1,43 @@
+package io.micronaut.guides.core;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@MicronautTest(startApplication = false)
+class GuideInputHasherTest {
+
+    @Inject
+    GuideInputHasher guideInputHasher;
+
+    @Test
+    void testSharedInputsIgnoreVcsAndBuildDirectories() throws Exception {
+        File inputDirectory = Files.createTempDirectory("micronaut-guides-input").toFile();
+        File guidesDirectory = new File(inputDirectory, "guides");
+        File outputDirectory = new File(inputDirectory, "website");
+        Path common = inputDirectory.toPath().resolve("asciidoc/commons/common-example.adoc");
+        Files.createDirectories(common.getParent());
+        Files.writeString(common, "Common");
+        String hash = guideInputHasher.hashSharedInputs(inputDirectory, guidesDirectory, outputDirectory);
+
+        write(inputDirectory.toPath().resolve(".git/HEAD"), "ref: refs/heads/main");
+        write(inputDirectory.toPath().resolve(".gradle/file-system.probe"), "probe");
+        write(inputDirectory.toPath().resolve("build/tmp/output.txt"), "output");
+        assertEquals(hash, guideInputHasher.hashSharedInputs(inputDirectory, guidesDirectory, outputDirectory));
+
+        Files.writeString(common, "Common changed");
+        assertNotEquals(hash, guideInputHasher.hashSharedInputs(inputDirectory, guidesDirectory, outputDirectory));
+    }
+
+    private static void write(Path path, String content) throws Exception {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+    }
+}
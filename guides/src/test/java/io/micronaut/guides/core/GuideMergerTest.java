@@ -0,0 +1,80 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GuideMergerTest {
+
+    @Test
+    void testMergeInheritsUnsetPropertiesAndMergesLists() {
+        Guide base = guide("Base", "default", List.of("data-jdbc"));
+        base.setTags(new ArrayList<>(List.of("database")));
+        base.setPublish(false);
+        Guide child = guide(null, "default", List.of("flyway"));
+        child.setTags(new ArrayList<>(List.of("flyway")));
+        child.setBase("base");
+
+        new DefaultGuideMerger().merge(base, child);
+
+        assertEquals("Base", child.getTitle());
+        assertFalse(child.isPublish());
+        assertEquals("base", child.getBase());
+        assertEquals(1, child.getApps().size());
+        assertEquals(List.of("data-jdbc", "flyway"), child.getApps().get(0).getFeatures());
+        assertTrue(child.getTags().containsAll(List.of("database", "flyway")));
+    }
+
+    @Test
+    void testMergeSubclassProperties() {
+        ExtendedGuide base = new ExtendedGuide();
+        base.setTitle("Base");
+        base.setSkipCodeSamples(true);
+        base.setApps(List.of());
+        ExtendedGuide child = new ExtendedGuide();
+        child.setApps(List.of());
+
+        new DefaultGuideMerger().merge(base, child);
+
+        assertEquals("Base", child.getTitle());
+        assertEquals(Boolean.TRUE, child.getSkipCodeSamples());
+        assertNull(child.getIntro());
+    }
+
+    private static Guide guide(String title, String appName, List<String> features) {
+        Guide guide = new Guide();
+        guide.setTitle(title);
+        guide.setCategories(List.of());
+        App app = new App();
+        app.setName(appName);
+        app.setFeatures(features);
+        guide.setApps(List.of(app));
+        return guide;
+    }
+
+    static class ExtendedGuide extends Guide {
+        private Boolean skipCodeSamples;
+
+        Boolean getSkipCodeSamples() {
+            return skipCodeSamples;
+        }
+
+        void setSkipCodeSamples(Boolean skipCodeSamples) {
+            this.skipCodeSamples = skipCodeSamples;
+        }
+
+        @Override
+        protected void mergeBase(Guide base) {
+            super.mergeBase(base);
+            if (skipCodeSamples == null && base instanceof ExtendedGuide extendedBase) {
+                skipCodeSamples = extendedBase.skipCodeSamples;
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GuideMetadataCacheTest {
+
+    @Test
+    void testSaveAndLoad() throws Exception {
+        File directory = Files.createTempDirectory("micronaut-guides").toFile();
+        File metadataFile = new File(directory, "metadata.json");
+        String content = "{\"title\": \"Micronaut Hello World\"}";
+        Files.writeString(metadataFile.toPath(), content);
+        File cacheFile = new File(directory, "build/metadata-cache.bin");
+
+        GuideMetadataCache cache = GuideMetadataCache.load(cacheFile, "schema");
+        assertFalse(cache.isValid(metadataFile, content));
+        cache.putValid(metadataFile, content);
+        cache.save();
+        assertTrue(cacheFile.exists());
+
+        cache = GuideMetadataCache.load(cacheFile, "schema");
+        assertTrue(cache.isValid(metadataFile, content));
+        assertFalse(cache.isValid(metadataFile, "{\"title\": \"Micronaut Hello World!\"}"));
+        assertFalse(GuideMetadataCache.load(cacheFile, "other schema").isValid(metadataFile, content));
+    }
+}
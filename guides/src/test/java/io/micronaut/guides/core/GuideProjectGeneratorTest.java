@@ -18,6 +18,7 @@ import java.util.Map;
 
 import static io.micronaut.guides.core.TestUtils.readFile;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MicronautTest(startApplication = false)
@@ -134,5 +135,30 @@ public class GuideProjectGeneratorTest {
         }
     }
 
+    @Test
+    void testGenerateIdenticalAppsFromCache() throws IOException {
+        App app = new App();
+        app.setName("default");
+        app.setApplicationType(ApplicationType.DEFAULT);
+        app.setFramework("Micronaut");
+        app.setFeatures(List.of("yaml"));
+        Guide guide = new Guide();
+        guide.setSlug("cached-project");
+        guide.setLanguages(List.of(Language.JAVA));
+        guide.setBuildTools(List.of(BuildTool.GRADLE));
+        guide.setTestFramework(TestFramework.JUNIT);
+        guide.setApps(List.of(app));
 
+        File firstOutputDirectory = Files.createTempDirectory("micronaut-guides").toFile();
+        File secondOutputDirectory = Files.createTempDirectory("micronaut-guides").toFile();
+        guideProjectGenerator.generate(firstOutputDirectory, guide);
+        guideProjectGenerator.generate(secondOutputDirectory, guide);
+
+        String folder = MacroUtils.getSourceDir(guide.getSlug(), new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT));
+        File first = new File(firstOutputDirectory, folder);
+        File second = new File(secondOutputDirectory, folder);
+        assertEquals(readFile(new File(first, "build.gradle")), readFile(new File(second, "build.gradle")));
+        assertTrue(new File(second, "src/main/java/example/micronaut/Application.java").exists());
+        assertTrue(new File(second, "gradlew").canExecute());
+    }
 }
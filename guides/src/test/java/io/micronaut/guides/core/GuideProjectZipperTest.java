@@ -2,15 +2,22 @@ package io.micronaut.guides.core;
 
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @MicronautTest(startApplication = false)
@@ -40,4 +47,99 @@ public class GuideProjectZipperTest {
 
         assertEquals(expected, result);
     }
+
+    @Test
+    void testReproducibleZip() throws IOException {
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setReproducibleZips(true);
+        GuideProjectZipper reproducibleZipper = new DefaultGuideProjectZipper(guidesConfiguration);
+        String projectFolder = "src/test/resources/guides";
+        Path zipFile = Path.of("build/tmp/test/guides-reproducible.zip");
+        Path otherZipFile = Path.of("build/tmp/test/guides-reproducible-other.zip");
+
+        reproducibleZipper.zipDirectory(projectFolder, zipFile.toString());
+        reproducibleZipper.zipDirectory(projectFolder, otherZipFile.toString());
+
+        assertArrayEquals(Files.readAllBytes(zipFile), Files.readAllBytes(otherZipFile));
+        List<String> result = new LinkedList<>();
+        try (ZipInputStream zis = new ZipInputStream(new FileInputStream(zipFile.toFile()))) {
+            ZipEntry zipEntry = zis.getNextEntry();
+            while (zipEntry != null) {
+                result.add(zipEntry.getName());
+                zipEntry = zis.getNextEntry();
+            }
+        }
+        assertEquals(result.stream().sorted().toList(), result);
+    }
+
+    @Test
+    void testReproducibleZipIsDeflatedOnTheCallerThreadWhenGuidesAreGeneratedInParallel() throws IOException {
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setReproducibleZips(true);
+        guidesConfiguration.setParallel(false);
+        guidesConfiguration.setParallelism(4);
+        GuidesConfigurationProperties parallelGuidesConfiguration = new GuidesConfigurationProperties();
+        parallelGuidesConfiguration.setReproducibleZips(true);
+        parallelGuidesConfiguration.setParallel(true);
+        parallelGuidesConfiguration.setParallelism(4);
+        String projectFolder = "src/test/resources/guides";
+        Path zipFile = Path.of("build/tmp/test/guides-executor.zip");
+        Path callerThreadZipFile = Path.of("build/tmp/test/guides-caller-thread.zip");
+
+        DefaultGuideProjectZipper zipper = new DefaultGuideProjectZipper(guidesConfiguration);
+        try {
+            zipper.zipDirectory(projectFolder, zipFile.toString());
+        } finally {
+            zipper.close();
+        }
+        new DefaultGuideProjectZipper(parallelGuidesConfiguration).zipDirectory(projectFolder, callerThreadZipFile.toString());
+
+        assertArrayEquals(Files.readAllBytes(zipFile), Files.readAllBytes(callerThreadZipFile));
+    }
+
+    @Test
+    void testZipEmitsFlightRecorderEvent() throws IOException {
+        ProjectTree projectTree = new ProjectTree();
+        projectTree.write("hello-gradle-java/README.md", "readme".getBytes(StandardCharsets.UTF_8), false);
+        projectTree.write("hello-gradle-java/gradlew", "#!/bin/sh".getBytes(StandardCharsets.UTF_8), true);
+        Path zipFile = Path.of("build/tmp/test/hello-gradle-java.zip");
+        Path recordingFile = Files.createTempFile("guides", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("io.micronaut.guides.Zip");
+            recording.start();
+            guideProjectZipper.zip(projectTree, "hello-gradle-java", zipFile.toString());
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals("io.micronaut.guides.Zip"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("hello-gradle-java", events.get(0).getString("project"));
+        assertEquals(2, events.get(0).getInt("entries"));
+        assertEquals(Files.size(zipFile), events.get(0).getLong("bytes"));
+    }
+
+    @Test
+    void testZipDirectoryEventCountsEntries() throws IOException {
+        String projectFolder = "src/test/resources/guides/creating-your-first-micronaut-app";
+        Path zipFile = Path.of("build/tmp/test/creating-your-first-micronaut-app-event.zip");
+        Path recordingFile = Files.createTempFile("guides", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("io.micronaut.guides.Zip");
+            recording.start();
+            guideProjectZipper.zipDirectory(projectFolder, zipFile.toString());
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals("io.micronaut.guides.Zip"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals(2, events.get(0).getInt("entries"));
+    }
 }
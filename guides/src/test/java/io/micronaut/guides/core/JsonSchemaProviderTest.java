@@ -0,0 +1,36 @@
+package io.micronaut.guides.core;
+
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.JsonSchema;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+class JsonSchemaProviderTest {
+
+    @Inject
+    JsonSchemaProvider jsonSchemaProvider;
+
+    @Test
+    void schemaIsLoadedFromTheClasspathOnce() {
+        JsonSchema schema = jsonSchemaProvider.getSchema();
+        assertSame(schema, jsonSchemaProvider.getSchema());
+
+        String valid = """
+                {
+                  "title": "Micronaut Hello World",
+                  "intro": "Hello World endpoint.",
+                  "authors": ["Sergio del Amo"],
+                  "categories": ["Getting Started"],
+                  "publicationDate": "2024-11-19",
+                  "apps": [{"name": "default"}]
+                }""";
+        assertTrue(schema.validate(valid, InputFormat.JSON).isEmpty());
+        assertFalse(schema.validate("{\"intro\": \"Missing title\"}", InputFormat.JSON).isEmpty());
+    }
+}
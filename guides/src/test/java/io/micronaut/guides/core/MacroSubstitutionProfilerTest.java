@@ -0,0 +1,65 @@
+package io.micronaut.guides.core;
+
+import io.micronaut.guides.core.asciidoc.AsciidocDocument;
+import io.micronaut.starter.api.TestFramework;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.Language;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MacroSubstitutionProfilerTest {
+
+    @Test
+    void testProfilesEverySubstitution() {
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setMacroProfiling(true);
+        MacroSubstitutionProfiler profiler = new DefaultMacroSubstitutionProfiler(guidesConfiguration);
+        MacroSubstitution substitution = new CompositeMacroSubstitution(List.of(new UpperCaseSubstitution(), new SlowSubstitution()), profiler);
+        GuidesOption option = new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT);
+
+        AsciidocDocument document = AsciidocDocument.parse("upper:a[]\nupper:b[]\ntext");
+        substitution.substitute(document, new Guide(), option);
+        substitution.substitute(AsciidocDocument.parse("upper:c[]"), new Guide(), option);
+
+        assertEquals("A\nB\ntext", document.toString());
+        List<String> rows = profiler.report().lines().toList();
+        assertEquals(3, rows.size());
+        assertTrue(rows.get(1).startsWith("SlowSubstitution"));
+        assertTrue(rows.get(2).matches("UpperCaseSubstitution\\s+2\\s+\\d+\\s+\\d+\\s+3\\s+-?\\d+"));
+
+        profiler.reset();
+        assertEquals(1, profiler.report().lines().count());
+    }
+
+    static class UpperCaseSubstitution implements MacroSubstitution {
+        @Override
+        public String substitute(String str, Guide guide, GuidesOption option) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
+            document.replaceMacros("upper", node -> node.getText().substring("upper:".length(), node.getText().length() - 2).toUpperCase());
+        }
+    }
+
+    static class SlowSubstitution implements MacroSubstitution {
+        @Override
+        public String substitute(String str, Guide guide, GuidesOption option) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void substitute(AsciidocDocument document, Guide guide, GuidesOption option) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PlaceholderReplacerTest {
+
+    @Test
+    void testReplace() {
+        PlaceholderReplacer replacer = new PlaceholderReplacer(List.of(
+                Map.of("@lang@", "java", "@build@", "gradle", "{githubSlug}", "hello-world"),
+                Map.of("@lang@", "kotlin", "@micronautVersion@", "4.7.0")));
+
+        assertEquals("java gradle hello-world 4.7.0",
+                replacer.replace("@lang@ @build@ {githubSlug} @micronautVersion@"));
+        assertEquals("@Controller(\"/hello\") @@java@ {unknown} me@example.com",
+                replacer.replace("@Controller(\"/hello\") @@lang@ {unknown} me@example.com"));
+    }
+
+    @Test
+    void testReturnsSameStringWithoutPlaceholders() {
+        PlaceholderReplacer replacer = new PlaceholderReplacer(List.of(Map.of("@lang@", "java")));
+        String str = "= Guide\n\nNo placeholders here.";
+        assertSame(str, replacer.replace(str));
+    }
+}
@@ -0,0 +1,116 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectTreeTest {
+
+    @Test
+    void testWriteCopyDeleteAndList() throws Exception {
+        Path source = Files.createTempFile("micronaut-guides", ".java");
+        Files.writeString(source, "class Application {}");
+
+        ProjectTree projectTree = new ProjectTree();
+        projectTree.write("app/gradlew", "#!/bin/sh".getBytes(StandardCharsets.UTF_8), true);
+        projectTree.write("app/README.md", "readme".getBytes(StandardCharsets.UTF_8), false);
+        projectTree.copy(source, ProjectTree.resolve("app/", "/src/main/java/Application.java"));
+        projectTree.delete("app/README.md");
+
+        assertEquals(List.of("app/gradlew", "app/src/main/java/Application.java"), projectTree.list("app"));
+        assertTrue(projectTree.isExecutable("app/gradlew"));
+        assertFalse(projectTree.exists("app/README.md"));
+        assertEquals("class Application {}", new String(projectTree.read("app/src/main/java/Application.java"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testFlushWritesChangesOnly() throws Exception {
+        File directory = Files.createTempDirectory("micronaut-guides-tree").toFile();
+        Path unchanged = new File(directory, "unchanged.txt").toPath();
+        Files.writeString(unchanged, "unchanged");
+        Path removed = new File(directory, "removed.txt").toPath();
+        Files.writeString(removed, "removed");
+
+        ProjectTree projectTree = ProjectTree.load(directory.toPath());
+        projectTree.delete("removed.txt");
+        projectTree.write("app/gradlew", "#!/bin/sh".getBytes(StandardCharsets.UTF_8), true);
+        long lastModified = unchanged.toFile().lastModified();
+        projectTree.flush(directory.toPath());
+
+        assertFalse(Files.exists(removed));
+        assertEquals(lastModified, unchanged.toFile().lastModified());
+        File gradlew = new File(directory, "app/gradlew");
+        assertEquals("#!/bin/sh", Files.readString(gradlew.toPath()));
+        assertTrue(gradlew.canExecute());
+    }
+
+    @Test
+    void testPrependIsWrittenOnFlush() throws Exception {
+        File directory = Files.createTempDirectory("micronaut-guides-tree").toFile();
+        Path loaded = new File(directory, "Loaded.java").toPath();
+        Files.writeString(loaded, "class Loaded {}");
+        Path source = Files.createTempFile("micronaut-guides", ".java");
+        Files.writeString(source, "class Copied {}");
+        byte[] header = "// header\n".getBytes(StandardCharsets.UTF_8);
+
+        ProjectTree projectTree = ProjectTree.load(directory.toPath());
+        projectTree.copy(source, "Copied.java");
+        projectTree.prepend("Loaded.java", header);
+        projectTree.prepend("Copied.java", header);
+        assertEquals("// header\nclass Copied {}", new String(projectTree.read("Copied.java"), StandardCharsets.UTF_8));
+        projectTree.flush(directory.toPath());
+
+        assertEquals("// header\nclass Loaded {}", Files.readString(loaded));
+        assertEquals("// header\nclass Copied {}", Files.readString(new File(directory, "Copied.java").toPath()));
+        assertEquals("class Copied {}", Files.readString(source));
+    }
+
+    @Test
+    void testFlushLinksUnmodifiedFiles() throws Exception {
+        File directory = Files.createTempDirectory("micronaut-guides-tree").toFile();
+        Path source = Files.createTempFile(directory.toPath(), "micronaut-guides", ".java");
+        Files.writeString(source, "class Linked {}");
+        Path licensed = Files.createTempFile(directory.toPath(), "micronaut-guides", ".java");
+        Files.writeString(licensed, "class Licensed {}");
+
+        ProjectTree projectTree = new ProjectTree();
+        projectTree.copy(source, "Linked.java");
+        projectTree.copy(licensed, "Licensed.java");
+        projectTree.prepend("Licensed.java", "// header\n".getBytes(StandardCharsets.UTF_8));
+        Path output = new File(directory, "output").toPath();
+        long linkedBytes = projectTree.flush(output, true);
+
+        assertEquals(Files.size(source), linkedBytes);
+        assertTrue(Files.isSameFile(source, output.resolve("Linked.java")));
+        assertEquals("// header\nclass Licensed {}", Files.readString(output.resolve("Licensed.java")));
+        assertEquals("class Licensed {}", Files.readString(licensed));
+    }
+
+    @Test
+    void testPruneDeletesFilesMissingFromTheTree() throws Exception {
+        File directory = Files.createTempDirectory("micronaut-guides-tree").toFile();
+        Path stale = new File(directory, "app/src/test/Stale.java").toPath();
+        Files.createDirectories(stale.getParent());
+        Files.writeString(stale, "class Stale {}");
+        Path other = new File(directory, "other/Other.java").toPath();
+        Files.createDirectories(other.getParent());
+        Files.writeString(other, "class Other {}");
+
+        ProjectTree projectTree = new ProjectTree();
+        projectTree.write("app/gradlew", "#!/bin/sh".getBytes(StandardCharsets.UTF_8), true);
+        projectTree.flush(directory.toPath());
+        projectTree.prune(directory.toPath(), "app");
+
+        assertFalse(Files.exists(stale.getParent()));
+        assertTrue(Files.exists(new File(directory, "app/gradlew").toPath()));
+        assertTrue(Files.exists(other));
+    }
+}
@@ -0,0 +1,93 @@
+package io.micronaut.guides.core;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+class WebsiteGeneratorTest {
+
+    @Inject
+    WebsiteGenerator websiteGenerator;
+
+    @Inject
+    GuidesConfigurationProperties guidesConfiguration;
+
+    @Test
+    void testParallelGenerationIsIdenticalToSequentialGeneration() throws Exception {
+        File inputDirectory = new File("../examples");
+        File sequentialOutputDirectory = Files.createTempDirectory("micronaut-guides-sequential").toFile();
+        File parallelOutputDirectory = Files.createTempDirectory("micronaut-guides-parallel").toFile();
+
+        boolean parallel = guidesConfiguration.isParallel();
+        int parallelism = guidesConfiguration.getParallelism();
+        try {
+            guidesConfiguration.setParallel(false);
+            websiteGenerator.generate(inputDirectory, sequentialOutputDirectory);
+
+            guidesConfiguration.setParallel(true);
+            guidesConfiguration.setParallelism(4);
+            websiteGenerator.generate(inputDirectory, parallelOutputDirectory);
+        } finally {
+            guidesConfiguration.setParallel(parallel);
+            guidesConfiguration.setParallelism(parallelism);
+        }
+
+        Map<String, String> sequentialContents = contents(sequentialOutputDirectory.toPath());
+        assertTrue(sequentialContents.keySet().stream().anyMatch(name -> name.contains(".zip!/")));
+        assertEquals(sequentialContents, contents(parallelOutputDirectory.toPath()));
+    }
+
+    /**
+     * Returns the SHA-256 of every file of the directory, keyed by relative path. Zips are compared by the names and contents
+     * of their entries, since their timestamps differ unless reproducible zips are enabled.
+     */
+    private static Map<String, String> contents(Path directory) throws IOException, NoSuchAlgorithmException {
+        Map<String, String> contents = new TreeMap<>();
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile).toList();
+        }
+        for (Path file : files) {
+            String name = directory.relativize(file).toString().replace(File.separatorChar, '/');
+            if (name.endsWith(".zip")) {
+                try (ZipInputStream zis = new ZipInputStream(Files.newInputStream(file))) {
+                    ZipEntry zipEntry = zis.getNextEntry();
+                    while (zipEntry != null) {
+                        contents.put(name + "!/" + zipEntry.getName(), sha256(zis));
+                        zipEntry = zis.getNextEntry();
+                    }
+                }
+            } else {
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    contents.put(name, sha256(inputStream));
+                }
+            }
+        }
+        return contents;
+    }
+
+    private static String sha256(InputStream inputStream) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(inputStream.readAllBytes());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
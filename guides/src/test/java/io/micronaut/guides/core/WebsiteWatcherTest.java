@@ -0,0 +1,73 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WebsiteWatcherTest {
+
+    @Test
+    void testRegeneratesWhenInputChanges() throws Exception {
+        File inputDirectory = Files.createTempDirectory("micronaut-guides-input").toFile();
+        File guideDirectory = new File(inputDirectory, "guides/hello-world");
+        assertTrue(guideDirectory.mkdirs());
+        File outputDirectory = new File(inputDirectory, "build");
+        assertTrue(outputDirectory.mkdirs());
+
+        Semaphore regenerations = new Semaphore(0);
+        Semaphore afterRegenerations = new Semaphore(0);
+        ConcurrentLinkedQueue<Set<String>> changedGuides = new ConcurrentLinkedQueue<>();
+        WebsiteGenerator websiteGenerator = new WebsiteGenerator() {
+            @Override
+            public void generate(File input, File output) {
+            }
+
+            @Override
+            public void regenerate(File input, File output) {
+                regenerations.release();
+            }
+
+            @Override
+            public void regenerate(File input, File output, Set<String> slugs) {
+                changedGuides.add(slugs);
+                regenerations.release();
+            }
+        };
+        WebsiteWatcher websiteWatcher = new DefaultWebsiteWatcher(websiteGenerator, new GuidesConfigurationProperties());
+        Thread thread = new Thread(() -> {
+            try {
+                websiteWatcher.watch(inputDirectory, outputDirectory, () -> afterRegenerations.release());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        try {
+            assertTrue(regenerations.tryAcquire(10, TimeUnit.SECONDS));
+
+            Files.writeString(new File(outputDirectory, "index.html").toPath(), "<html></html>");
+            assertFalse(regenerations.tryAcquire(1, TimeUnit.SECONDS));
+
+            Files.writeString(new File(guideDirectory, "hello-world.adoc").toPath(), "= Hello World");
+            assertTrue(regenerations.tryAcquire(10, TimeUnit.SECONDS));
+            assertEquals(Set.of("hello-world"), changedGuides.poll());
+
+            Files.writeString(new File(inputDirectory, "common.adoc").toPath(), "Common");
+            assertTrue(regenerations.tryAcquire(10, TimeUnit.SECONDS));
+            assertTrue(changedGuides.isEmpty());
+            assertTrue(afterRegenerations.tryAcquire(3, 10, TimeUnit.SECONDS));
+        } finally {
+            thread.interrupt();
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.micronaut.guides.core.asciidoc;
+
+import io.micronaut.guides.core.GuidesConfigurationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsciidocConverterPoolTest {
+
+    private static final String ASCIIDOC = """
+            = Guide
+
+            Hello World.
+            """;
+
+    @Test
+    void testWarmUpCreatesASingleInstanceAtStartup() {
+        AsciidocConfigurationProperties asciidocConfiguration = new AsciidocConfigurationProperties();
+        asciidocConfiguration.setPoolSize(3);
+        asciidocConfiguration.setWarmUp(true);
+        DefaultAsciidocConverter asciidocConverter = new DefaultAsciidocConverter(asciidocConfiguration, new GuidesConfigurationProperties());
+        try {
+            assertEquals(1, asciidocConverter.size());
+        } finally {
+            asciidocConverter.close();
+        }
+    }
+
+    @Test
+    void testPoolSizeDefaultsToTheGuidesParallelism() throws Exception {
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setParallelism(2);
+        AsciidocConfigurationProperties asciidocConfiguration = new AsciidocConfigurationProperties();
+        asciidocConfiguration.setWarmUp(false);
+        DefaultAsciidocConverter asciidocConverter = new DefaultAsciidocConverter(asciidocConfiguration, guidesConfiguration);
+        try {
+            guidesConfiguration.setParallel(false);
+            convertConcurrently(asciidocConverter);
+            assertEquals(1, asciidocConverter.size());
+
+            guidesConfiguration.setParallel(true);
+            convertConcurrently(asciidocConverter);
+            assertTrue(asciidocConverter.size() <= 2);
+        } finally {
+            asciidocConverter.close();
+        }
+    }
+
+    @Test
+    void testWithoutWarmUpInstancesAreCreatedOnDemand() {
+        AsciidocConfigurationProperties asciidocConfiguration = new AsciidocConfigurationProperties();
+        asciidocConfiguration.setPoolSize(3);
+        asciidocConfiguration.setWarmUp(false);
+        DefaultAsciidocConverter asciidocConverter = new DefaultAsciidocConverter(asciidocConfiguration, new GuidesConfigurationProperties());
+        try {
+            convert(asciidocConverter);
+            convert(asciidocConverter);
+            assertEquals(1, asciidocConverter.size());
+        } finally {
+            asciidocConverter.close();
+        }
+    }
+
+    @Test
+    void testInstanceIsReturnedToThePoolWhenConversionFails() {
+        FailingAsciidocConfiguration asciidocConfiguration = new FailingAsciidocConfiguration();
+        asciidocConfiguration.setPoolSize(1);
+        asciidocConfiguration.setWarmUp(false);
+        DefaultAsciidocConverter asciidocConverter = new DefaultAsciidocConverter(asciidocConfiguration, new GuidesConfigurationProperties());
+        try {
+            asciidocConfiguration.failing = true;
+            assertThrows(IllegalStateException.class, () -> convert(asciidocConverter));
+            assertThrows(IllegalStateException.class, () -> convert(asciidocConverter));
+
+            asciidocConfiguration.failing = false;
+            // with a single instance, the conversion would wait forever if the failed conversions did not return it
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> convert(asciidocConverter));
+            assertEquals(1, asciidocConverter.size());
+        } finally {
+            asciidocConverter.close();
+        }
+    }
+
+    @Test
+    void testConcurrentConversionsDoNotExceedThePoolSize() throws Exception {
+        AsciidocConfigurationProperties asciidocConfiguration = new AsciidocConfigurationProperties();
+        asciidocConfiguration.setPoolSize(2);
+        asciidocConfiguration.setWarmUp(false);
+        DefaultAsciidocConverter asciidocConverter = new DefaultAsciidocConverter(asciidocConfiguration, new GuidesConfigurationProperties());
+        try {
+            convertConcurrently(asciidocConverter);
+            assertTrue(asciidocConverter.size() <= 2);
+        } finally {
+            asciidocConverter.close();
+        }
+    }
+
+    private static void convertConcurrently(AsciidocConverter asciidocConverter) throws Exception {
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> conversions = new ArrayList<>();
+            for (int i = 0; i < callers * 4; i++) {
+                conversions.add(executor.submit(() -> {
+                    start.await();
+                    return convert(asciidocConverter);
+                }));
+            }
+            start.countDown();
+            for (Future<String> conversion : conversions) {
+                assertTrue(conversion.get().contains("Hello World."));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String convert(AsciidocConverter asciidocConverter) {
+        File baseDir = new File(".");
+        return asciidocConverter.convert(ASCIIDOC, baseDir, baseDir.getPath(), baseDir.getPath());
+    }
+
+    /**
+     * Fails the conversions, once an Asciidoctor instance is acquired, while {@link #failing} is set.
+     */
+    static class FailingAsciidocConfiguration extends AsciidocConfigurationProperties {
+        volatile boolean failing;
+
+        @Override
+        public String getSourceHighlighter() {
+            if (failing) {
+                throw new IllegalStateException("Conversion failed");
+            }
+            return super.getSourceHighlighter();
+        }
+    }
+}
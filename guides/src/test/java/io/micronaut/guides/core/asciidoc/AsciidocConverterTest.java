@@ -0,0 +1,44 @@
+package io.micronaut.guides.core.asciidoc;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+class AsciidocConverterTest {
+
+    @Inject
+    AsciidocConverter asciidocConverter;
+
+    @Test
+    void testConvertWithTocMatchesTheEmbeddedToc() {
+        String asciidoc = """
+                = Guide
+
+                == Getting Started
+
+                Text.
+
+                === Requirements
+
+                == Writing the App
+
+                Text.
+                """;
+        File baseDir = new File(".");
+        String html = asciidocConverter.convert(asciidoc, baseDir, baseDir.getPath(), baseDir.getPath());
+        AsciidocHtml asciidocHtml = asciidocConverter.convertWithToc(asciidoc, baseDir, baseDir.getPath(), baseDir.getPath());
+
+        assertTrue(asciidocHtml.toc().startsWith("<div id=\"toc\" class=\"toc\">"));
+        assertTrue(asciidocHtml.toc().contains("Writing the App</a>"));
+        assertTrue(html.contains(asciidocHtml.toc()));
+        assertFalse(asciidocHtml.content().contains("id=\"toc\""));
+        assertEquals(html.replace(asciidocHtml.toc() + "\n", ""), asciidocHtml.content());
+    }
+}
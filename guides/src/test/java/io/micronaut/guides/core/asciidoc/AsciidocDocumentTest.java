@@ -0,0 +1,120 @@
+package io.micronaut.guides.core.asciidoc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciidocDocumentTest {
+
+    @Test
+    void lexing() {
+        AsciidocDocument document = AsciidocDocument.parse("""
+                Intro
+                :exclude-for-build:maven,gradle
+                source:HelloController[app=cli]
+                :exclude-for-build:
+                """);
+        List<AsciidocNode> nodes = document.getNodes();
+        assertEquals(5, nodes.size());
+        assertEquals(AsciidocNode.Kind.TEXT, nodes.get(0).getKind());
+        assertTrue(nodes.get(1).is(AsciidocNode.Kind.GROUP_START, "exclude-for-build"));
+        assertEquals(List.of("maven", "gradle"), nodes.get(1).getParameters());
+        assertTrue(nodes.get(2).is(AsciidocNode.Kind.MACRO, "source"));
+        assertEquals("HelloController", nodes.get(2).getMacro().orElseThrow().target());
+        assertTrue(nodes.get(3).is(AsciidocNode.Kind.GROUP_END, "exclude-for-build"));
+        assertEquals("", nodes.get(4).getText());
+    }
+
+    @Test
+    void serializationPreservesContent() {
+        String str = "a\n\nb:c[]\n:d:\n";
+        assertEquals(str, AsciidocDocument.parse(str).toString());
+        assertEquals("", AsciidocDocument.parse("").toString());
+    }
+
+    @Test
+    void replaceMacrosOnlyReplacesTheMacroLines() {
+        AsciidocDocument document = AsciidocDocument.parse("""
+                source:Foo[]
+                Text mentioning source:Foo[]
+                source:Foo[]""");
+        document.replaceMacros("source", node -> node.getMacro().map(macro -> "include::" + macro.target() + "[]\ncallout:1[]").orElse(null));
+        assertEquals("""
+                include::Foo[]
+                callout:1[]
+                Text mentioning source:Foo[]
+                include::Foo[]
+                callout:1[]""", document.toString());
+        assertTrue(document.getNodes().get(1).is(AsciidocNode.Kind.MACRO, "callout"));
+    }
+
+    @Test
+    void resolveNestedGroups() {
+        AsciidocDocument document = AsciidocDocument.parse("""
+                a
+                :exclude-for-build:maven
+                b
+                :exclude-for-build:gradle
+                c
+                :exclude-for-build:
+                :exclude-for-build:
+                d
+                """);
+        document.resolveGroups("exclude-for-build", params -> params.contains("gradle"));
+        assertEquals("""
+                a
+                b
+                d
+                """, document.toString());
+    }
+
+    @Test
+    void unbalancedGroup() {
+        AsciidocDocument document = AsciidocDocument.parse(":exclude-for-build:\n");
+        assertThrows(UnsupportedOperationException.class, () -> document.resolveGroups("exclude-for-build", params -> true));
+    }
+
+    @Test
+    void replaceBlocks() {
+        AsciidocDocument document = AsciidocDocument.parse("""
+                :dependencies:
+                dependency:a[]
+                dependency:b[]
+                :dependencies:
+                end""");
+        document.replaceBlocks("dependencies", lines -> String.join(",", lines));
+        assertEquals("dependency:a[],dependency:b[]\nend", document.toString());
+    }
+
+    @Test
+    void crlfLineBreaks() {
+        AsciidocDocument document = AsciidocDocument.parse("a\r\n:exclude-for-build:maven\r\nb\r\n:exclude-for-build:\r\n"
+                + ":dependencies:\r\ndependency:a[]\r\ndependency:b[]\r\n:dependencies:\r\nend");
+        assertTrue(document.getNodes().get(1).is(AsciidocNode.Kind.GROUP_START, "exclude-for-build"));
+        assertEquals(List.of("maven"), document.getNodes().get(1).getParameters());
+        assertTrue(document.getNodes().get(3).is(AsciidocNode.Kind.GROUP_END, "exclude-for-build"));
+
+        document.resolveGroups("exclude-for-build", params -> params.contains("maven"));
+        document.replaceBlocks("dependencies", lines -> String.join(",", lines));
+        assertEquals("a\ndependency:a[],dependency:b[]\nend", document.toString());
+    }
+
+    @Test
+    void copyIsIndependent() {
+        AsciidocDocument document = AsciidocDocument.parse("@lang@\ntext");
+        AsciidocDocument copy = document.copy();
+        copy.replaceText(line -> line.replace("@lang@", "java"));
+        assertEquals("java\ntext", copy.toString());
+        assertEquals("@lang@\ntext", document.toString());
+        assertSame(document.getNodes().get(1), copy.getNodes().get(1));
+    }
+
+    @Test
+    void copiesShareParsedMacros() {
+        AsciidocDocument document = AsciidocDocument.parse("source:HelloController[tags=method]");
+        AsciidocMacro macro = document.copy().getNodes().get(0).getMacro().orElseThrow();
+        assertSame(macro, document.copy().getNodes().get(0).getMacro().orElseThrow());
+    }
+}
@@ -0,0 +1,25 @@
+package io.micronaut.guides.core.html;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HtmlTemplateTest {
+
+    @Test
+    void testRenderWritesSlotsAndLiterals() throws Exception {
+        HtmlTemplate template = HtmlTemplate.compile("<style>a { color: red }</style><a href=\"{section-link}\">{section}</a>{title}{missing}");
+        StringWriter writer = new StringWriter();
+        String html = "<div id=\"toc\"></div>\n<p>Guide</p>";
+
+        template.render(writer, Map.of(
+                "section", HtmlTemplate.Slot.of("Database"),
+                "section-link", HtmlTemplate.Slot.of("https://example.com/database/"),
+                "title", w -> w.write(html, 21, html.length() - 21)));
+
+        assertEquals("<style>a { color: red }</style><a href=\"https://example.com/database/\">Database</a><p>Guide</p>{missing}", writer.toString());
+    }
+}